@@ -1,9 +1,14 @@
 package com.noboseki.supportportal;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
@@ -11,9 +16,14 @@ import org.springframework.web.filter.CorsFilter;
 import java.io.File;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.noboseki.supportportal.constant.FileConstant.USER_FOLDER;
+import static com.noboseki.supportportal.constant.SecurityConstant.BCRYPT_ENCODING_ID;
+import static com.noboseki.supportportal.constant.SecurityConstant.PBKDF2_ENCODING_ID;
 
+@EnableScheduling
 @SpringBootApplication
 public class SupportPortalApplication {
 
@@ -39,8 +49,14 @@ public class SupportPortalApplication {
     }
 
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public DelegatingPasswordEncoder passwordEncoder(@Value("${password-hashing.encoding-id:bcrypt}") String encodingId,
+                                                     @Value("${password-hashing.bcrypt-strength:10}") int bcryptStrength) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ENCODING_ID, new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put(PBKDF2_ENCODING_ID, new Pbkdf2PasswordEncoder());
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.noboseki.supportportal.configuration;
+
+import com.noboseki.supportportal.domain.User;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.hibernate.cache.spi.RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+import static org.hibernate.cache.spi.RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+@Configuration
+public class HibernateCacheConfiguration {
+    public static final String USER_REGION = User.class.getName();
+    private static final String CACHE_MANAGER_URI = "urn:supportportal:hibernate:";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${hibernate-cache.entity.max-entries:10000}") long entityMaxEntries,
+                                              @Value("${hibernate-cache.entity.ttl:600000}") long entityTtlMillis,
+                                              @Value("${hibernate-cache.query.max-entries:10000}") long queryMaxEntries,
+                                              @Value("${hibernate-cache.query.ttl:600000}") long queryTtlMillis,
+                                              @Value("${hibernate-cache.statistics:false}") boolean statistics) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        org.ehcache.config.Configuration configuration = ConfigurationBuilder.newConfigurationBuilder()
+                .withClassLoader(getClass().getClassLoader())
+                .withCache(USER_REGION, region(entityMaxEntries, ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofMillis(entityTtlMillis))))
+                .withCache(DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                        region(queryMaxEntries, ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofMillis(queryTtlMillis))))
+                .withCache(DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, region(queryMaxEntries, ExpiryPolicyBuilder.noExpiration()))
+                .build();
+        CacheManager cacheManager = provider.getCacheManager(URI.create(CACHE_MANAGER_URI + UUID.randomUUID()), configuration);
+        for (String cacheName : cacheManager.getCacheNames()) {
+            cacheManager.enableStatistics(cacheName, statistics);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager,
+                                                                  @Value("${hibernate-cache.statistics:false}") boolean statistics) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, String.valueOf(statistics));
+        };
+    }
+
+    private CacheConfiguration<Object, Object> region(long maxEntries, ExpiryPolicy<Object, Object> expiryPolicy) {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(expiryPolicy)
+                .build();
+    }
+}
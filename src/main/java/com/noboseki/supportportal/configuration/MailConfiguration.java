@@ -0,0 +1,35 @@
+package com.noboseki.supportportal.configuration;
+
+import com.noboseki.supportportal.utility.KeepAliveJavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfiguration {
+
+    @Bean
+    public KeepAliveJavaMailSender javaMailSender(MailProperties properties,
+                                                  @Value("${mail-transport.max-idle:30000}") long maxIdleMillis) {
+        KeepAliveJavaMailSender sender = new KeepAliveJavaMailSender(maxIdleMillis);
+        sender.setHost(properties.getHost());
+        if (properties.getPort() != null) {
+            sender.setPort(properties.getPort());
+        }
+        sender.setUsername(properties.getUsername());
+        sender.setPassword(properties.getPassword());
+        sender.setProtocol(properties.getProtocol());
+        if (properties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(properties.getDefaultEncoding().name());
+        }
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(properties.getProperties());
+        sender.setJavaMailProperties(javaMailProperties);
+        return sender;
+    }
+}
@@ -0,0 +1,105 @@
+package com.noboseki.supportportal.configuration;
+
+import com.google.common.cache.CacheStats;
+import com.noboseki.supportportal.enumeration.OutboxEmailStatus;
+import com.noboseki.supportportal.repository.OutboxEmailRepository;
+import com.noboseki.supportportal.service.AvatarCache;
+import com.noboseki.supportportal.service.UserCache;
+import com.noboseki.supportportal.utility.JWTTokenProvider;
+import com.noboseki.supportportal.utility.QueryCountingStatementInspector;
+import com.noboseki.supportportal.utility.SqlTraceStatementInspector;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.noboseki.supportportal.constant.MetricsConstant.*;
+
+@Configuration
+public class MetricsConfiguration {
+    private static final String USER_CACHE = "users";
+    private static final String AVATAR_CACHE = "avatars";
+    private static final String VERIFIED_TOKEN_CACHE = "verifiedTokens";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(QueryCountingStatementInspector queryCounter,
+                                                                     SqlTraceStatementInspector sqlTrace) {
+        StatementInspector statementInspector = sql -> sqlTrace.inspect(queryCounter.inspect(sql));
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+    }
+
+    @Bean
+    public MeterBinder queryMetrics(QueryCountingStatementInspector statementInspector) {
+        return meterRegistry -> FunctionCounter.builder(DB_QUERIES, statementInspector,
+                QueryCountingStatementInspector::getQueryCount).register(meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport) {
+                    ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(factory ->
+                            factory.addInvocationListener(invocation -> Timer.builder(REPOSITORY_TIMER)
+                                    .tag(TAG_REPOSITORY, invocation.getRepositoryInterface().getSimpleName())
+                                    .tag(TAG_METHOD, invocation.getMethod().getName())
+                                    .tag(TAG_STATE, invocation.getResult().getState().name())
+                                    .register(meterRegistry.getObject())
+                                    .record(invocation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder cacheMetrics(UserCache userCache, AvatarCache avatarCache, JWTTokenProvider tokenProvider) {
+        return meterRegistry -> {
+            bindCache(meterRegistry, USER_CACHE, userCache::getStats);
+            bindCache(meterRegistry, AVATAR_CACHE, avatarCache::getMemoryCacheStats);
+            bindCache(meterRegistry, VERIFIED_TOKEN_CACHE, tokenProvider::getVerifiedTokenCacheStats);
+        };
+    }
+
+    @Bean
+    public MeterBinder emailOutboxMetrics(OutboxEmailRepository outboxEmailRepository) {
+        return meterRegistry -> {
+            for (OutboxEmailStatus status : OutboxEmailStatus.values()) {
+                Gauge.builder(EMAIL_OUTBOX_DEPTH, outboxEmailRepository, repository -> repository.countByStatus(status))
+                        .tag(TAG_STATUS, status.name().toLowerCase())
+                        .register(meterRegistry);
+            }
+        };
+    }
+
+    private void bindCache(MeterRegistry meterRegistry, String cache, Supplier<CacheStats> stats) {
+        FunctionCounter.builder(CACHE_GETS, stats, supplier -> supplier.get().hitCount())
+                .tags(TAG_CACHE, cache, TAG_RESULT, HIT)
+                .register(meterRegistry);
+        FunctionCounter.builder(CACHE_GETS, stats, supplier -> supplier.get().missCount())
+                .tags(TAG_CACHE, cache, TAG_RESULT, MISS)
+                .register(meterRegistry);
+        FunctionCounter.builder(CACHE_EVICTIONS, stats, supplier -> supplier.get().evictionCount())
+                .tag(TAG_CACHE, cache)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.noboseki.supportportal.configuration;
+
+import com.noboseki.supportportal.domain.UserPrincipal;
+import com.noboseki.supportportal.service.PasswordUpgradeService;
+import com.noboseki.supportportal.utility.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.noboseki.supportportal.constant.MetricsConstant.PASSWORD_VERIFY_TIMER;
+import static com.noboseki.supportportal.constant.MetricsConstant.TAG_FORMAT;
+
+@Component
+public class PasswordUpgradingAuthenticationProvider extends DaoAuthenticationProvider {
+    private static final Pattern ENCODING_ID = Pattern.compile("^\\{([^}]*)}");
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final String NO_ENCODING_ID = "none";
+
+    private final PasswordUpgradeService passwordUpgradeService;
+    private final MeterRegistry meterRegistry;
+
+    public PasswordUpgradingAuthenticationProvider(@Qualifier("userDetailsService") UserDetailsService userDetailsService,
+                                                   BoundedPasswordEncoder passwordEncoder,
+                                                   PasswordUpgradeService passwordUpgradeService,
+                                                   MeterRegistry meterRegistry) {
+        this.passwordUpgradeService = passwordUpgradeService;
+        this.meterRegistry = meterRegistry;
+        setUserDetailsService(userDetailsService);
+        setPasswordEncoder(passwordEncoder);
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails,
+                                                  UsernamePasswordAuthenticationToken authentication) {
+        long startedAt = System.nanoTime();
+        try {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+        } finally {
+            long verifyNanos = System.nanoTime() - startedAt;
+            String format = hashFormat(userDetails.getPassword());
+            Timer.builder(PASSWORD_VERIFY_TIMER).tag(TAG_FORMAT, format).register(meterRegistry)
+                    .record(verifyNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal, Authentication authentication, UserDetails user) {
+        if (user instanceof UserPrincipal && authentication.getCredentials() != null
+                && passwordUpgradeService.isUpgradeNeeded(user.getPassword())) {
+            passwordUpgradeService.scheduleUpgrade(((UserPrincipal) user).getUser(), authentication.getCredentials().toString());
+        }
+        return super.createSuccessAuthentication(principal, authentication, user);
+    }
+
+    private String hashFormat(String encodedPassword) {
+        if (encodedPassword == null) {
+            return NO_ENCODING_ID;
+        }
+        Matcher encodingId = ENCODING_ID.matcher(encodedPassword);
+        String format = encodingId.find() ? encodingId.group(1) : NO_ENCODING_ID;
+        Matcher bcryptCost = BCRYPT_COST.matcher(encodedPassword);
+        return bcryptCost.find() ? format + "-" + bcryptCost.group(1) : format;
+    }
+}
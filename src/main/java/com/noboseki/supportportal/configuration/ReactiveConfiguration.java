@@ -0,0 +1,51 @@
+package com.noboseki.supportportal.configuration;
+
+import com.noboseki.supportportal.controller.ReactiveUserHandler;
+import com.noboseki.supportportal.exception.ReactiveExceptionHandling;
+import com.noboseki.supportportal.filter.JwtAuthenticationWebFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+@Configuration
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class ReactiveConfiguration {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveUserRoutes(ReactiveUserHandler handler) {
+        return RouterFunctions.route(GET("/user/find/{username}"), handler::getUser)
+                .andRoute(GET("/user/list"), handler::getAllUsers)
+                .andRoute(GET("/user/image/profile/{username}"), handler::getTempProfileImage)
+                .andRoute(GET("/user/image/{username}/{fileName}"), handler::getProfileImage);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public WebServer reactiveWebServer(@Value("${reactive.port:8081}") int port,
+                                       RouterFunction<ServerResponse> reactiveUserRoutes,
+                                       JwtAuthenticationWebFilter jwtAuthenticationWebFilter,
+                                       ReactiveExceptionHandling reactiveExceptionHandling,
+                                       ObjectProvider<CodecCustomizer> codecCustomizers) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> codecCustomizers.orderedStream().forEach(customizer -> customizer.customize(codecs)))
+                .build();
+        HttpHandler httpHandler = WebHttpHandlerBuilder
+                .webHandler(RouterFunctions.toWebHandler(reactiveUserRoutes, strategies))
+                .filter(jwtAuthenticationWebFilter)
+                .exceptionHandler(reactiveExceptionHandling)
+                .build();
+        return new NettyReactiveWebServerFactory(port).getWebServer(httpHandler);
+    }
+}
@@ -0,0 +1,48 @@
+package com.noboseki.supportportal.configuration;
+
+import com.noboseki.supportportal.utility.WorkerThreads;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.task.TaskExecutorCustomizer;
+import org.springframework.boot.task.TaskSchedulerCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+
+import static com.noboseki.supportportal.constant.VirtualThreadConstant.*;
+
+@Configuration
+@ConditionalOnProperty(name = "virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+    private final WorkerThreads workerThreads;
+    // not a bean: an Executor bean would make Boot back off from creating applicationTaskExecutor
+    private final ExecutorService requestExecutor;
+
+    public VirtualThreadConfiguration(WorkerThreads workerThreads) {
+        this.workerThreads = workerThreads;
+        this.requestExecutor = workerThreads.newThreadPerTaskExecutor(HTTP_THREAD_PREFIX);
+    }
+
+    @PreDestroy
+    public void shutdownRequestExecutor() {
+        requestExecutor.shutdown();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(requestExecutor);
+    }
+
+    @Bean
+    public TaskSchedulerCustomizer virtualThreadTaskSchedulerCustomizer() {
+        return taskScheduler -> taskScheduler.setThreadFactory(workerThreads.threadFactory(SCHEDULING_THREAD_PREFIX));
+    }
+
+    @Bean
+    public TaskExecutorCustomizer virtualThreadTaskExecutorCustomizer() {
+        return taskExecutor -> taskExecutor.setThreadFactory(workerThreads.threadFactory(TASK_THREAD_PREFIX));
+    }
+}
@@ -8,5 +8,6 @@ public class EmailConstant {
     public static final String EXCEPTION_MESSAGE = "Email send error for : ";
     public static final String REGISTRATION_SUBJECT = "Get Arrays, LLC - New Password";
     public static final String FROM_EMAIL = "support@getarrays.com";
+    public static final int LAST_ERROR_MAX_LENGTH = 255;
 
 }
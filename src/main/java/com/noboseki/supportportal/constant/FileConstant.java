@@ -8,11 +8,22 @@ public class FileConstant {
     public static final String USER_IMAGE_PATH = "/user/image/";
     public static final String JPG_EXTENSION = "jpg";
     public static final String USER_FOLDER = System.getProperty("user.home") + "/supportportal/user/";
-    public static final String DIRECTORY_CREATED = "Created directory for: ";
+    public static final String DIRECTORY_CREATED = "Created directory for: {}";
     public static final String DEFAULT_USER_IMAGE_PATH = "/user/image/profile/";
-    public static final String FILE_SAVED_IN_FILE_SYSTEM = "Saved file in file system by name: ";
+    public static final String FILE_SAVED_IN_FILE_SYSTEM = "Saved file in file system by name: {}";
     public static final String DOT = ".";
     public static final String FORWARD_SLASH = "/";
     public static final String NOT_AN_IMAGE_FILE = " is not an image file. Please upload an image file";
     public static final String TEMP_PROFILE_IMAGE_BASE_URL = "https://robohash.org/";
+    public static final String STAGING_FOLDER = USER_FOLDER + ".staging/";
+    public static final String UPLOAD_EXTENSION = ".upload";
+    public static final String THUMBNAIL_SEPARATOR = "-";
+    public static final int[] THUMBNAIL_SIZES = {64, 128};
+    public static final long IMAGE_CACHE_MAX_AGE_SECONDS = 300;
+    public static final long AVATAR_CACHE_MAX_AGE_SECONDS = 86_400;
+    public static final String AVATAR_FOLDER = USER_FOLDER + ".avatars/";
+    public static final String AVATAR_TOO_LARGE = "Avatar response is too large for: ";
+    public static final String AVATAR_FETCH_BUSY = "Too many avatar fetches in progress for: ";
+    public static final String INVALID_IMAGE_PATH = "Invalid image path";
+    public static final String IMAGE_PROCESSING_BUSY = "Too many profile images are being processed. Please try again later";
 }
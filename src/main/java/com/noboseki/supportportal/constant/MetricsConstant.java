@@ -0,0 +1,41 @@
+package com.noboseki.supportportal.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MetricsConstant {
+    public static final String USER_SERVICE_TIMER = "user.service";
+    public static final String USER_IMPORT_TIMER = "user.import";
+    public static final String USER_EXPORT_TIMER = "user.export";
+    public static final String REPOSITORY_TIMER = "spring.data.repository.invocations";
+    public static final String DB_QUERIES = "db.queries";
+    public static final String REQUEST_QUERIES = "http.server.requests.queries";
+    public static final String JWT_VERIFY_TIMER = "jwt.verify";
+    public static final String PASSWORD_HASHING_TIMER = "password.hashing";
+    public static final String PASSWORD_HASHING_WAIT_TIMER = "password.hashing.wait";
+    public static final String PASSWORD_HASHING_REJECTED = "password.hashing.rejected";
+    public static final String PASSWORD_HASHING_ACTIVE = "password.hashing.active";
+    public static final String PASSWORD_HASHING_QUEUED = "password.hashing.queued";
+    public static final String PASSWORD_VERIFY_TIMER = "password.verify";
+    public static final String IMAGE_BYTES = "image.bytes";
+    public static final String EMAIL_OUTBOX_DEPTH = "email.outbox.depth";
+    public static final String EMAIL_OUTBOX_DISPATCH_TIMER = "email.outbox.dispatch";
+    public static final String EMAIL_OUTBOX_ATTEMPTS = "email.outbox.attempts";
+    public static final String CACHE_GETS = "cache.gets";
+    public static final String CACHE_EVICTIONS = "cache.evictions";
+    public static final String TAG_CACHE = "cache";
+    public static final String TAG_RESULT = "result";
+    public static final String TAG_STATUS = "status";
+    public static final String TAG_FORMAT = "format";
+    public static final String TAG_DIRECTION = "direction";
+    public static final String TAG_REPOSITORY = "repository";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_STATE = "state";
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+}
@@ -2,14 +2,25 @@ package com.noboseki.supportportal.constant;
 
 public class SecurityConstant {
     public static final long EXPIRATION_TIME = 432_000_000; // 5 DAYS in milliseconds
+    public static final long VERIFIED_TOKEN_CACHE_MAXIMUM_SIZE = 10_000;
     public static final String TOKEN_PREFIX = "Bearer ";
     public static final String JWT_TOKEN_HEADER = "Jwt-Token";
     public static final String TOKEN_CANNOT_BE_VERIFIED = "Token Cannot be verified";
+    public static final String JWT_SECRET_REQUIRED = "JWT secret must not be blank";
+    public static final String JWT_ROTATION_URL = "/actuator/jwtrotation";
+    public static final String JWT_ROTATION_AUTHORITY = "user:delete";
     public static final String GET_ARRAYS_LLC = "Get Arrays, LLC";
     public static final String GET_ARRAYS_ADMINISTRATION = "User Management Portal";
     public static final String AUTHORITIES = "authorities";
     public static final String FORBIDDEN_MESSAGE = "You need to log in to access this page";
     public static final String ACCESS_DENIED_MESSAGE = "You do not have permission to access this page";
     public static final String OPTIONS_HTTP_METHOD = "OPTIONS";
-    public static final String[] PUBLIC_URLS = {"/user/login", "/user/register", "/user/image/**"};
+    public static final String POST_HTTP_METHOD = "POST";
+    public static final String LOGIN_URL = "/user/login";
+    public static final long MAXIMUM_LOGIN_BODY_SIZE = 8 * 1024;
+    public static final String BCRYPT_ENCODING_ID = "bcrypt";
+    public static final String PBKDF2_ENCODING_ID = "pbkdf2";
+    public static final String PASSWORD_HASHING_BUSY = "Too many password operations in progress. Please try again later";
+    public static final String TOO_MANY_LOGIN_ATTEMPTS = "Too many login attempts. Please try again later";
+    public static final String[] PUBLIC_URLS = {"/user/login", "/user/register", "/user/image/**", "/actuator/health", "/actuator/prometheus"};
 }
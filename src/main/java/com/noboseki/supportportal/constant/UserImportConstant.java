@@ -0,0 +1,18 @@
+package com.noboseki.supportportal.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserImportConstant {
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String EXPORT_FILE_NAME = "users.";
+    public static final String[] EXPORT_COLUMNS = {"userId", "firstName", "lastName", "username", "email", "role",
+            "active", "notLocked", "joinDate", "lastLoginDate", "profileImageUrl"};
+    public static final String USERNAME_REQUIRED = "Username is required";
+    public static final String EMAIL_REQUIRED = "Email is required";
+    public static final String UNKNOWN_ROLE = "Unknown role: ";
+    public static final String MALFORMED_ROW = "Malformed row: ";
+    public static final String IMPORT_ABORTED = "Import aborted: ";
+    public static final String UNSUPPORTED_FORMAT = "Unsupported format: %s. Supported formats: %s";
+}
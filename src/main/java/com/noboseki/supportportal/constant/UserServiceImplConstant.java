@@ -10,5 +10,8 @@ public class UserServiceImplConstant {
     public static final String EMAIL_ALREADY_EXIST = "Email already exist";
     public static final String USER_WAS_FOUND = "Returning found user by username : ";
     public static final String NO_USER_FOUND_BY_EMAIL ="No user found for email: ";
+    public static final long NO_USER_ID = 0L;
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAXIMUM_PAGE_SIZE = 1000;
 
 }
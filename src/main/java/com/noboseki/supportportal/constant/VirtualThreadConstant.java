@@ -0,0 +1,17 @@
+package com.noboseki.supportportal.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class VirtualThreadConstant {
+    public static final String OF_VIRTUAL = "ofVirtual";
+    public static final String THREAD_BUILDER = "java.lang.Thread$Builder";
+    public static final String NAME = "name";
+    public static final String FACTORY = "factory";
+    public static final String NEW_THREAD_PER_TASK_EXECUTOR = "newThreadPerTaskExecutor";
+    public static final String VIRTUAL_THREADS_UNSUPPORTED = "virtual-threads.enabled requires Java 21 or newer, running on ";
+    public static final String HTTP_THREAD_PREFIX = "http-virtual-";
+    public static final String SCHEDULING_THREAD_PREFIX = "scheduling-virtual-";
+    public static final String TASK_THREAD_PREFIX = "task-virtual-";
+}
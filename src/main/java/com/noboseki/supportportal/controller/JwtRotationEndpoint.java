@@ -0,0 +1,19 @@
+package com.noboseki.supportportal.controller;
+
+import com.noboseki.supportportal.utility.JWTTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "jwtrotation")
+public class JwtRotationEndpoint {
+    private final JWTTokenProvider jwtTokenProvider;
+
+    @WriteOperation
+    public void rotate(String secret) {
+        jwtTokenProvider.rotateSecret(secret);
+    }
+}
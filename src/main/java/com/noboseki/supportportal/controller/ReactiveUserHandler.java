@@ -0,0 +1,102 @@
+package com.noboseki.supportportal.controller;
+
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.domain.UserRecord;
+import com.noboseki.supportportal.exception.domain.UserNotFoundException;
+import com.noboseki.supportportal.repository.ReactiveUserRepository;
+import com.noboseki.supportportal.service.AvatarCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static com.noboseki.supportportal.constant.FileConstant.*;
+import static com.noboseki.supportportal.constant.MetricsConstant.IMAGE_BYTES;
+import static com.noboseki.supportportal.constant.MetricsConstant.READ;
+import static com.noboseki.supportportal.constant.MetricsConstant.TAG_DIRECTION;
+import static com.noboseki.supportportal.constant.UserServiceImplConstant.USER_WAS_FOUND;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.IMAGE_JPEG;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class ReactiveUserHandler {
+    public static final String USERNAME = "username";
+    public static final String FILE_NAME = "fileName";
+    public static final String PARENT_DIRECTORY = "..";
+    private final ReactiveUserRepository userRepository;
+    private final AvatarCache avatarCache;
+    private final MeterRegistry meterRegistry;
+
+    public Mono<ServerResponse> getUser(ServerRequest request) {
+        String username = request.pathVariable(USERNAME);
+        return userRepository.findUserByUsername(username)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(USER_WAS_FOUND + username)))
+                .flatMap(user -> ServerResponse.ok().contentType(APPLICATION_JSON).bodyValue(user.toUser()));
+    }
+
+    public Mono<ServerResponse> getAllUsers(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(APPLICATION_JSON)
+                .body(userRepository.findAllByOrderByIdAsc().map(UserRecord::toUser), User.class);
+    }
+
+    public Mono<ServerResponse> getProfileImage(ServerRequest request) {
+        String username = request.pathVariable(USERNAME);
+        String fileName = request.pathVariable(FILE_NAME);
+        if (!isSafePathSegment(username) || !isSafePathSegment(fileName)) {
+            return Mono.error(new ResponseStatusException(BAD_REQUEST, INVALID_IMAGE_PATH));
+        }
+        Path userFolder = Paths.get(USER_FOLDER).toAbsolutePath().normalize();
+        Path image = userFolder.resolve(username).resolve(fileName).normalize();
+        if (!image.startsWith(userFolder)) {
+            return Mono.error(new ResponseStatusException(BAD_REQUEST, INVALID_IMAGE_PATH));
+        }
+        return Mono.fromCallable(() -> Files.readAttributes(image, BasicFileAttributes.class))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(attributes -> {
+                    Instant lastModified = attributes.lastModifiedTime().toInstant();
+                    String eTag = Long.toHexString(lastModified.toEpochMilli()) + "-" + Long.toHexString(attributes.size());
+                    return request.checkNotModified(lastModified, eTag).switchIfEmpty(Mono.defer(() -> {
+                        meterRegistry.summary(IMAGE_BYTES, TAG_DIRECTION, READ).record(attributes.size());
+                        return ServerResponse.ok()
+                                .contentType(IMAGE_JPEG)
+                                .eTag(eTag)
+                                .lastModified(lastModified)
+                                .cacheControl(CacheControl.maxAge(IMAGE_CACHE_MAX_AGE_SECONDS, TimeUnit.SECONDS).cachePublic())
+                                .body(BodyInserters.fromResource(new FileSystemResource(image)));
+                    }));
+                });
+    }
+
+    public Mono<ServerResponse> getTempProfileImage(ServerRequest request) {
+        return avatarCache.getAvatarAsync(request.pathVariable(USERNAME)).flatMap(avatar -> {
+            meterRegistry.summary(IMAGE_BYTES, TAG_DIRECTION, READ).record(avatar.length);
+            return ServerResponse.ok()
+                    .contentType(IMAGE_JPEG)
+                    .cacheControl(CacheControl.maxAge(AVATAR_CACHE_MAX_AGE_SECONDS, TimeUnit.SECONDS).cachePublic())
+                    .bodyValue(avatar);
+        });
+    }
+
+    private boolean isSafePathSegment(String segment) {
+        return !segment.isEmpty() && !segment.contains(FORWARD_SLASH) && !segment.contains("\\") && !segment.contains(PARENT_DIRECTORY);
+    }
+}
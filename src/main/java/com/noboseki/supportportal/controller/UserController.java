@@ -1,38 +1,71 @@
 package com.noboseki.supportportal.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.noboseki.supportportal.domain.HttpResponse;
 import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.domain.UserImportProgress;
+import com.noboseki.supportportal.domain.UserPage;
 import com.noboseki.supportportal.domain.UserPrincipal;
 import com.noboseki.supportportal.dtos.AddNewUserDto;
 import com.noboseki.supportportal.dtos.UpdateUserDto;
+import com.noboseki.supportportal.enumeration.UserDataFormat;
 import com.noboseki.supportportal.exception.ExceptionHandling;
 import com.noboseki.supportportal.exception.domain.NotAnImageFileException;
 import com.noboseki.supportportal.exception.domain.*;
+import com.noboseki.supportportal.service.AvatarCache;
+import com.noboseki.supportportal.service.UserExportService;
+import com.noboseki.supportportal.service.UserImportService;
 import com.noboseki.supportportal.service.UserService;
 import com.noboseki.supportportal.utility.JWTTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URL;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import static com.noboseki.supportportal.constant.FileConstant.*;
+import static com.noboseki.supportportal.constant.MetricsConstant.IMAGE_BYTES;
+import static com.noboseki.supportportal.constant.MetricsConstant.READ;
+import static com.noboseki.supportportal.constant.MetricsConstant.TAG_DIRECTION;
 import static com.noboseki.supportportal.constant.SecurityConstant.JWT_TOKEN_HEADER;
+import static com.noboseki.supportportal.constant.UserImportConstant.EXPORT_FILE_NAME;
+import static com.noboseki.supportportal.constant.UserImportConstant.TEXT_CSV_VALUE;
+import static com.noboseki.supportportal.constant.UserImportConstant.UNSUPPORTED_FORMAT;
 import static com.noboseki.supportportal.constant.UserServiceImplConstant.USER_WAS_FOUND;
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 import static org.springframework.http.MediaType.IMAGE_JPEG_VALUE;
 
 @RestController
@@ -41,21 +74,28 @@ import static org.springframework.http.MediaType.IMAGE_JPEG_VALUE;
 public class UserController extends ExceptionHandling {
     public static final String EMAIL_SENT = "An email with a new password was sent to: ";
     public static final String USER_DELETE_SUCCESSFULLY = "User delete successfully";
+    public static final String GZIP_ENCODING = "gzip";
+    public static final int GZIP_BUFFER_SIZE = 8192;
+    public static final String ANY_ENCODING = "*";
+    public static final String QUALITY_PARAMETER = "q=";
     private final UserService userService;
     private final AuthenticationManager authenticationManager;
     private final JWTTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final AvatarCache avatarCache;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+    private final MeterRegistry meterRegistry;
 
     @PostMapping("/login")
-    public ResponseEntity<User> login(@RequestBody User user) throws UserNotFoundException {
-        authenticate(user.getUsername(), user.getPassword());
-        User loginUser = userService.findByUsername(user.getUsername()).orElseThrow(() -> new UserNotFoundException(""));
-        UserPrincipal userPrincipal = new UserPrincipal(loginUser);
+    public ResponseEntity<User> login(@RequestBody User user) {
+        UserPrincipal userPrincipal = authenticate(user.getUsername(), user.getPassword());
         HttpHeaders jwtHeader = getJwtHeader(userPrincipal);
-        return new ResponseEntity<>(loginUser, jwtHeader, OK);
+        return new ResponseEntity<>(userPrincipal.getUser(), jwtHeader, OK);
     }
 
     @PostMapping("/register")
-    public ResponseEntity<User> register(@RequestBody User user) throws UserNotFoundException, UsernameExistException, EmailExistException, EmailSendException {
+    public ResponseEntity<User> register(@RequestBody User user) throws UserNotFoundException, UsernameExistException, EmailExistException {
         User newUser = userService.register(user.getFirstName(), user.getLastName(), user.getUsername(), user.getEmail());
         return ResponseEntity.ok(newUser);
     }
@@ -69,7 +109,7 @@ public class UserController extends ExceptionHandling {
                                            @RequestParam("isActive") String isActive,
                                            @RequestParam("isNonLocked") String isNonLocked,
                                            @RequestParam(value = "profileImage", required = false) MultipartFile multipartFile)
-            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException {
+            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException, ImageProcessingBusyException {
 
         User user = userService.addNewUser(AddNewUserDto.builder()
                 .firstName(firstName).lastName(lastName)
@@ -81,6 +121,16 @@ public class UserController extends ExceptionHandling {
         return new ResponseEntity<>(user, OK);
     }
 
+    @PostMapping(path = "/import", consumes = {TEXT_CSV_VALUE, APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasAnyAuthority('user:create')")
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        UserDataFormat format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                ? UserDataFormat.CSV : UserDataFormat.NDJSON;
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        OutputStream outputStream = response.getOutputStream();
+        userImportService.importUsers(request.getInputStream(), format, progress -> writeLine(outputStream, progress));
+    }
+
     @PostMapping("/update")
     public ResponseEntity<User> update(@RequestParam("currentUsername") String currentUsername,
                                        @RequestParam("firstName") String firstName,
@@ -91,7 +141,7 @@ public class UserController extends ExceptionHandling {
                                        @RequestParam("isActive") String isActive,
                                        @RequestParam("isNonLocked") String isNonLocked,
                                        @RequestParam(value = "profileImage", required = false) MultipartFile multipartFile)
-            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException {
+            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException, ImageProcessingBusyException {
 
         User updatedUser = userService.updateUser(UpdateUserDto.builder()
                 .currentUsername(currentUsername).newFirstName(firstName)
@@ -110,13 +160,56 @@ public class UserController extends ExceptionHandling {
     }
 
     @GetMapping("/list")
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> user = userService.getUsers();
-        return new ResponseEntity<>(user, OK);
+    public void getAllUsers(HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            userService.forEachUser(user -> {
+                try {
+                    generator.writeObject(user);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(value = "format", defaultValue = "csv") String format,
+                                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
+            throws UnsupportedFormatException {
+        UserDataFormat dataFormat = parseFormat(format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setVary(Collections.singletonList(HttpHeaders.ACCEPT_ENCODING));
+        headers.setContentType(MediaType.parseMediaType(dataFormat == UserDataFormat.CSV ? TEXT_CSV_VALUE : APPLICATION_NDJSON_VALUE));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(EXPORT_FILE_NAME + dataFormat.name().toLowerCase()).build());
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        }
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE)) {
+                    userExportService.exportUsers(gzipOutputStream, dataFormat);
+                }
+            } else {
+                userExportService.exportUsers(outputStream, dataFormat);
+            }
+        };
+        return new ResponseEntity<>(body, headers, OK);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<UserPage> getUsersPage(@RequestParam(value = "after", required = false) Long after,
+                                                 @RequestParam(value = "size", required = false) Integer size) {
+        UserPage page = userService.getUsersPage(after, size);
+        return new ResponseEntity<>(page, OK);
     }
 
     @GetMapping("/resetPassword/{email}")
-    public ResponseEntity<HttpResponse> resetPassword(@PathVariable("email") String email) throws EmailNotFoundException, EmailSendException {
+    public ResponseEntity<HttpResponse> resetPassword(@PathVariable("email") String email) throws EmailNotFoundException {
         userService.resetPassword(email);
         return response(OK, EMAIL_SENT + email);
     }
@@ -131,29 +224,38 @@ public class UserController extends ExceptionHandling {
     @PostMapping("/updateProfileImage")
     public ResponseEntity<User> updateProfileImage(@RequestParam("username") String username,
                                                    @RequestParam(value = "profileImage") MultipartFile multipartFile)
-            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException {
+            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException, ImageProcessingBusyException {
         User user = userService.updateProfileImage(username, multipartFile);
 
-        return new ResponseEntity<>(user, OK);
+        return new ResponseEntity<>(user, ACCEPTED);
     }
 
     @GetMapping(path = "/image/{username}/{fileName}", produces = IMAGE_JPEG_VALUE)
-    public byte[] getProfileImage(@PathVariable("username") String username, @PathVariable("fileName") String fileName) throws IOException {
-        return Files.readAllBytes(Paths.get(USER_FOLDER + username + FORWARD_SLASH + fileName));
+    public ResponseEntity<Resource> getProfileImage(@PathVariable("username") String username,
+                                                    @PathVariable("fileName") String fileName,
+                                                    ServletWebRequest webRequest) throws IOException {
+        Path image = Paths.get(USER_FOLDER + username + FORWARD_SLASH + fileName);
+        BasicFileAttributes attributes = Files.readAttributes(image, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String eTag = Long.toHexString(lastModified) + "-" + Long.toHexString(attributes.size());
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+        meterRegistry.summary(IMAGE_BYTES, TAG_DIRECTION, READ).record(attributes.size());
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.maxAge(IMAGE_CACHE_MAX_AGE_SECONDS, TimeUnit.SECONDS).cachePublic())
+                .body(new FileSystemResource(image));
     }
 
     @GetMapping(path = "/image/profile/{username}", produces = IMAGE_JPEG_VALUE)
-    public byte[] getTempProfileImage(@PathVariable("username") String username) throws IOException {
-        URL url = new URL(TEMP_PROFILE_IMAGE_BASE_URL + username);
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        try (InputStream inputStream = url.openStream()) {
-            int bytesRead;
-            byte [] chunk = new byte[1024];
-            while ((bytesRead = inputStream.read(chunk)) > 0) {
-                byteArrayOutputStream.write(chunk, 0, bytesRead);
-            }
-        }
-        return byteArrayOutputStream.toByteArray();
+    public ResponseEntity<byte[]> getTempProfileImage(@PathVariable("username") String username) throws IOException {
+        byte[] avatar = avatarCache.getAvatar(username);
+        meterRegistry.summary(IMAGE_BYTES, TAG_DIRECTION, READ).record(avatar.length);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(AVATAR_CACHE_MAX_AGE_SECONDS, TimeUnit.SECONDS).cachePublic())
+                .body(avatar);
     }
 
     private ResponseEntity<HttpResponse> response(HttpStatus httpStatus, String message) {
@@ -164,13 +266,62 @@ public class UserController extends ExceptionHandling {
         return new ResponseEntity<>(body, httpStatus);
     }
 
+    private UserDataFormat parseFormat(String format) throws UnsupportedFormatException {
+        return Arrays.stream(UserDataFormat.values())
+                .filter(dataFormat -> dataFormat.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new UnsupportedFormatException(String.format(UNSUPPORTED_FORMAT, format,
+                        Arrays.stream(UserDataFormat.values()).map(dataFormat -> dataFormat.name().toLowerCase()).collect(Collectors.joining(", ")))));
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim();
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith(QUALITY_PARAMETER)) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equalsIgnoreCase(GZIP_ENCODING)) {
+                gzipQuality = quality;
+            } else if (coding.equals(ANY_ENCODING)) {
+                anyQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : anyQuality;
+        return quality != null && quality > 0;
+    }
+
+    private void writeLine(OutputStream outputStream, UserImportProgress progress) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(progress));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private HttpHeaders getJwtHeader(UserPrincipal userPrincipal) {
         HttpHeaders headers = new HttpHeaders();
         headers.add(JWT_TOKEN_HEADER, jwtTokenProvider.generateJwtToken(userPrincipal));
         return headers;
     }
 
-    private void authenticate(String username, String password) {
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
+    private UserPrincipal authenticate(String username, String password) {
+        Authentication authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
+        return (UserPrincipal) authentication.getPrincipal();
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.noboseki.supportportal.domain;
+
+import com.noboseki.supportportal.enumeration.OutboxEmailStatus;
+import lombok.*;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Date;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(indexes = @Index(name = "ix_outbox_email_status_next_attempt", columnList = "status, nextAttemptDate"))
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEmail implements Serializable {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(nullable = false, updatable = false)
+    private Long id;
+    private String sender;
+    private String recipient;
+    private String subject;
+    @Lob
+    private String text;
+    @Enumerated(EnumType.STRING)
+    private OutboxEmailStatus status;
+    private int attempts;
+    private Date createdDate;
+    private Date nextAttemptDate;
+    private String lastError;
+}
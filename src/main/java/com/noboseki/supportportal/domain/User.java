@@ -2,7 +2,12 @@ package com.noboseki.supportportal.domain;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.noboseki.supportportal.enumeration.ProfileImageStatus;
+import com.noboseki.supportportal.enumeration.Role;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
 
 import javax.persistence.*;
 import java.io.Serializable;
@@ -11,31 +16,49 @@ import java.util.Date;
 @Getter
 @Setter
 @Entity
-@Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Builder(toBuilder = true)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = User.USERNAME_UNIQUE_CONSTRAINT, columnNames = "username"),
+        @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")})
 @NoArgsConstructor
 @AllArgsConstructor
 public class User implements Serializable {
+    public static final String USERNAME_UNIQUE_CONSTRAINT = "uk_user_username";
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_user_email";
+    public static final String ID_SEQUENCE = "user_sequence";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = 50)
     @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @Column(nullable = false, updatable = false)
     private Long id;
     private String userId;
     private String firstName;
     private String lastName;
+    @NaturalId(mutable = true)
     private String username;
     @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
     private String email;
     private String profileImageUrl;
+    @Enumerated(EnumType.STRING)
+    private ProfileImageStatus profileImageStatus;
+    @Column(updatable = false)
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyy hh:mm:ss", timezone = "Europe/Belgrade")
     private Date lastLoginDate;
+    @Column(updatable = false)
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyy hh:mm:ss", timezone = "Europe/Belgrade")
     private Date lastLoginDateDisplay;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyy hh:mm:ss", timezone = "Europe/Belgrade")
     private Date joinDate;
     private String role;
-    private String[] authorities;
     private boolean isActive;
     private boolean isNotLocked;
+
+    public String[] getAuthorities() {
+        return role == null ? new String[0] : Role.valueOf(role).getAuthorities();
+    }
 }
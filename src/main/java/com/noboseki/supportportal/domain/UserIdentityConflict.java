@@ -0,0 +1,16 @@
+package com.noboseki.supportportal.domain;
+
+public interface UserIdentityConflict {
+
+    Number getUsernameMatches();
+
+    Number getEmailMatches();
+
+    default boolean isUsernameTaken() {
+        return getUsernameMatches().intValue() > 0;
+    }
+
+    default boolean isEmailTaken() {
+        return getEmailMatches().intValue() > 0;
+    }
+}
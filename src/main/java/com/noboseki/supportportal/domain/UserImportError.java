@@ -0,0 +1,12 @@
+package com.noboseki.supportportal.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class UserImportError {
+    private final long row;
+    private final String username;
+    private final String message;
+}
@@ -0,0 +1,16 @@
+package com.noboseki.supportportal.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class UserImportProgress {
+    private final long processed;
+    private final long imported;
+    private final long failed;
+    private final boolean complete;
+    private final List<UserImportError> errors;
+}
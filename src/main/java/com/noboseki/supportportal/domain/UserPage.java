@@ -0,0 +1,17 @@
+package com.noboseki.supportportal.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPage {
+    private List<User> users;
+    private Long nextCursor;
+}
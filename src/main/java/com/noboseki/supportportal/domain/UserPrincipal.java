@@ -1,13 +1,11 @@
 package com.noboseki.supportportal.domain;
 
+import com.noboseki.supportportal.enumeration.Role;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.stream.Collectors;
-
-import static java.util.Arrays.stream;
+import java.util.Collections;
 
 
 public class UserPrincipal implements UserDetails {
@@ -18,9 +16,14 @@ public class UserPrincipal implements UserDetails {
         this.user = user;
     }
 
+    public User getUser() {
+        return this.user;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return stream(this.user.getAuthorities()).map(SimpleGrantedAuthority::new).collect(Collectors.toList());
+        String role = this.user.getRole();
+        return role == null ? Collections.emptyList() : Role.valueOf(role).getGrantedAuthorities();
     }
 
     @Override
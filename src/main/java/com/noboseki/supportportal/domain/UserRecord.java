@@ -0,0 +1,51 @@
+package com.noboseki.supportportal.domain;
+
+import com.noboseki.supportportal.enumeration.ProfileImageStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(UserRecord.TABLE_NAME)
+public class UserRecord {
+    public static final String TABLE_NAME = "user";
+
+    @Id
+    private Long id;
+    private String userId;
+    private String firstName;
+    private String lastName;
+    private String username;
+    private String email;
+    private String profileImageUrl;
+    private ProfileImageStatus profileImageStatus;
+    private LocalDateTime lastLoginDate;
+    private LocalDateTime lastLoginDateDisplay;
+    private LocalDateTime joinDate;
+    private String role;
+    private boolean isActive;
+    private boolean isNotLocked;
+
+    public User toUser() {
+        return User.builder()
+                .id(id).userId(userId)
+                .firstName(firstName).lastName(lastName)
+                .username(username).email(email)
+                .profileImageUrl(profileImageUrl).profileImageStatus(profileImageStatus)
+                .lastLoginDate(toDate(lastLoginDate)).lastLoginDateDisplay(toDate(lastLoginDateDisplay))
+                .joinDate(toDate(joinDate)).role(role)
+                .isActive(isActive).isNotLocked(isNotLocked).build();
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return dateTime == null ? null : Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
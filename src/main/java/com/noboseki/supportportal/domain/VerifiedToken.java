@@ -0,0 +1,20 @@
+package com.noboseki.supportportal.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+    private final String subject;
+    private final List<GrantedAuthority> authorities;
+    private final Date expiresAt;
+
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.before(new Date());
+    }
+}
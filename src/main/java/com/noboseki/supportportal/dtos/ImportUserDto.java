@@ -0,0 +1,23 @@
+package com.noboseki.supportportal.dtos;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ImportUserDto {
+    private String firstName;
+    private String lastName;
+    private String username;
+    private String email;
+    private String role;
+    @JsonAlias("active")
+    private String isActive;
+    @JsonAlias("notLocked")
+    private String isNonLocked;
+}
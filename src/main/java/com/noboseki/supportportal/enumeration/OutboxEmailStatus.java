@@ -0,0 +1,6 @@
+package com.noboseki.supportportal.enumeration;
+
+public enum OutboxEmailStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.noboseki.supportportal.enumeration;
+
+public enum ProfileImageStatus {
+    PENDING,
+    READY,
+    FAILED
+}
@@ -1,6 +1,14 @@
 package com.noboseki.supportportal.enumeration;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static com.noboseki.supportportal.constant.Authority.*;
+import static java.util.Arrays.stream;
 
 public enum Role {
     ROLE_USER(USER_AUTHORITIES),
@@ -9,13 +17,20 @@ public enum Role {
     ROLE_ADMIN(ADMIN_AUTHORITIES),
     ROLE_SUPER_ADMIN(SUPER_ADMIN_ADMIN);
 
-    private String[] authorities;
+    private final String[] authorities;
+    private final List<GrantedAuthority> grantedAuthorities;
 
     Role(String... authorities) {
         this.authorities = authorities;
+        this.grantedAuthorities = Collections.unmodifiableList(
+                stream(authorities).map(SimpleGrantedAuthority::new).collect(Collectors.toList()));
     }
 
     public String[] getAuthorities() {
         return authorities;
     }
+
+    public List<GrantedAuthority> getGrantedAuthorities() {
+        return grantedAuthorities;
+    }
 }
@@ -29,23 +29,19 @@ public class ExceptionHandling implements ErrorController {
 
     private static final String ACCOUNT_LOCKED = "Your account has been locked. Please contact administration";
     private static final String METHOD_IS_NOT_ALLOWED = "This request method is not allowed on this endpoint. Please send a '%s' request";
-    private static final String INTERNAL_SERVER_ERROR_MSG = "An error occurred while processing the request";
+    static final String INTERNAL_SERVER_ERROR_MSG = "An error occurred while processing the request";
     private static final String INCORRECT_CREDENTIALS = "Username / password incorrect. Please try again";
     private static final String ACCOUNT_DISABLED = "Your account has been disabled. If this is an error, please contact administration";
-    private static final String ERROR_PROCESSING_FILE = "Error occurred while processing file";
+    static final String ERROR_PROCESSING_FILE = "Error occurred while processing file";
     private static final String NOT_ENOUGH_PERMISSION = "You do not have enough permission";
     private static final String ERROR_PATH = "/error";
+    static final String NO_MAPPING_FOR_URL = "There is no mapping for this URL";
 
     @ExceptionHandler(DisabledException.class)
     public ResponseEntity<HttpResponse> accountDisabledException() {
         return createHttpResponse(BAD_REQUEST, ACCOUNT_DISABLED);
     }
 
-    @ExceptionHandler(EmailSendException.class)
-    public ResponseEntity<HttpResponse> emailSendException(EmailSendException exception) {
-        return createHttpResponse(INTERNAL_SERVER_ERROR, exception.getMessage());
-    }
-
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<HttpResponse> badCredentialsException() {
         return createHttpResponse(BAD_REQUEST, INCORRECT_CREDENTIALS);
@@ -110,6 +106,21 @@ public class ExceptionHandling implements ErrorController {
         return createHttpResponse(BAD_REQUEST, exception.getMessage());
     }
 
+    @ExceptionHandler(UnsupportedFormatException.class)
+    public ResponseEntity<HttpResponse> unsupportedFormatException(UnsupportedFormatException exception) {
+        return createHttpResponse(BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler(ImageProcessingBusyException.class)
+    public ResponseEntity<HttpResponse> imageProcessingBusyException(ImageProcessingBusyException exception) {
+        return createHttpResponse(SERVICE_UNAVAILABLE, exception.getMessage());
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<HttpResponse> passwordHashingBusyException(PasswordHashingBusyException exception) {
+        return createHttpResponse(SERVICE_UNAVAILABLE, exception.getMessage());
+    }
+
     @ExceptionHandler(IOException.class)
     public ResponseEntity<HttpResponse> iOException(IOException exception) {
         log.error(exception.getMessage());
@@ -118,7 +129,7 @@ public class ExceptionHandling implements ErrorController {
 
     @RequestMapping(ERROR_PATH)
     public ResponseEntity<HttpResponse> notFound404() {
-        return createHttpResponse(NOT_FOUND, "There is no mapping for this URL");
+        return createHttpResponse(NOT_FOUND, NO_MAPPING_FOR_URL);
     }
 
     @Override
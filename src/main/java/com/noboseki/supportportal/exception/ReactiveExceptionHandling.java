@@ -0,0 +1,80 @@
+package com.noboseki.supportportal.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.noboseki.supportportal.domain.HttpResponse;
+import com.noboseki.supportportal.exception.domain.UserNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+import static com.noboseki.supportportal.constant.SecurityConstant.FORBIDDEN_MESSAGE;
+import static com.noboseki.supportportal.exception.ExceptionHandling.ERROR_PROCESSING_FILE;
+import static com.noboseki.supportportal.exception.ExceptionHandling.INTERNAL_SERVER_ERROR_MSG;
+import static com.noboseki.supportportal.exception.ExceptionHandling.NO_MAPPING_FOR_URL;
+import static org.springframework.http.HttpStatus.*;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class ReactiveExceptionHandling implements WebExceptionHandler {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable exception) {
+        if (exception instanceof AuthenticationException) {
+            return createHttpResponse(exchange, FORBIDDEN, FORBIDDEN_MESSAGE);
+        }
+        if (exception instanceof UserNotFoundException) {
+            return createHttpResponse(exchange, BAD_REQUEST, exception.getMessage());
+        }
+        if (exception instanceof ResponseStatusException) {
+            ResponseStatusException statusException = (ResponseStatusException) exception;
+            HttpStatus status = statusException.getStatus();
+            if (status == NOT_FOUND) {
+                return createHttpResponse(exchange, status, NO_MAPPING_FOR_URL);
+            }
+            return createHttpResponse(exchange, status,
+                    statusException.getReason() != null ? statusException.getReason() : status.getReasonPhrase());
+        }
+        log.error(exception.getMessage());
+        if (exception instanceof IOException) {
+            return createHttpResponse(exchange, INTERNAL_SERVER_ERROR, ERROR_PROCESSING_FILE);
+        }
+        return createHttpResponse(exchange, INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR_MSG);
+    }
+
+    private Mono<Void> createHttpResponse(ServerWebExchange exchange, HttpStatus status, String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.empty();
+        }
+        HttpResponse httpResponse = HttpResponse.builder()
+                .httpStatusCode(status.value())
+                .httpStatus(status)
+                .reason(status.getReasonPhrase().toUpperCase())
+                .message(message).build();
+        DataBuffer body;
+        try {
+            body = response.bufferFactory().wrap(objectMapper.writeValueAsBytes(httpResponse));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(APPLICATION_JSON);
+        return response.writeWith(Mono.just(body));
+    }
+}
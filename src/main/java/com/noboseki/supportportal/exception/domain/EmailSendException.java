@@ -1,7 +0,0 @@
-package com.noboseki.supportportal.exception.domain;
-
-public class EmailSendException extends Exception {
-    public EmailSendException(String message) {
-        super(message);
-    }
-}
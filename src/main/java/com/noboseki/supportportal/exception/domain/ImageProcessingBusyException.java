@@ -0,0 +1,7 @@
+package com.noboseki.supportportal.exception.domain;
+
+public class ImageProcessingBusyException extends Exception {
+    public ImageProcessingBusyException(String message) {
+        super(message);
+    }
+}
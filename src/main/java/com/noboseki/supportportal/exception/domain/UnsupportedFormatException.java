@@ -0,0 +1,7 @@
+package com.noboseki.supportportal.exception.domain;
+
+public class UnsupportedFormatException extends Exception {
+    public UnsupportedFormatException(String message) {
+        super(message);
+    }
+}
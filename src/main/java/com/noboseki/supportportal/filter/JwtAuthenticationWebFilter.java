@@ -0,0 +1,83 @@
+package com.noboseki.supportportal.filter;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.noboseki.supportportal.domain.VerifiedToken;
+import com.noboseki.supportportal.utility.JWTTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.google.common.net.HttpHeaders.AUTHORIZATION;
+import static com.noboseki.supportportal.constant.MetricsConstant.JWT_VERIFY_TIMER;
+import static com.noboseki.supportportal.constant.SecurityConstant.FORBIDDEN_MESSAGE;
+import static com.noboseki.supportportal.constant.SecurityConstant.PUBLIC_URLS;
+import static com.noboseki.supportportal.constant.SecurityConstant.TOKEN_PREFIX;
+import static java.util.Arrays.stream;
+import static org.springframework.http.HttpStatus.OK;
+
+@Component
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class JwtAuthenticationWebFilter implements WebFilter {
+    private final JWTTokenProvider tokenProvider;
+    private final MeterRegistry meterRegistry;
+    private final List<PathPattern> publicUrls;
+
+    public JwtAuthenticationWebFilter(JWTTokenProvider tokenProvider, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.meterRegistry = meterRegistry;
+        this.publicUrls = stream(PUBLIC_URLS).map(PathPatternParser.defaultInstance::parse).collect(Collectors.toList());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() == HttpMethod.OPTIONS) {
+            exchange.getResponse().setStatusCode(OK);
+            return exchange.getResponse().setComplete();
+        }
+        if (isPublic(request.getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
+        String authorizationHeader = request.getHeaders().getFirst(AUTHORIZATION);
+        if (authorizationHeader == null || !authorizationHeader.startsWith(TOKEN_PREFIX)) {
+            return Mono.error(new InsufficientAuthenticationException(FORBIDDEN_MESSAGE));
+        }
+        String token = authorizationHeader.substring(TOKEN_PREFIX.length());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = tokenProvider.verifyToken(token);
+        } catch (JWTVerificationException exception) {
+            return Mono.error(new InsufficientAuthenticationException(FORBIDDEN_MESSAGE, exception));
+        } finally {
+            sample.stop(meterRegistry.timer(JWT_VERIFY_TIMER));
+        }
+        String username = verifiedToken.getSubject();
+        if (StringUtils.isEmpty(username) || verifiedToken.isExpired()) {
+            return Mono.error(new InsufficientAuthenticationException(FORBIDDEN_MESSAGE));
+        }
+        Authentication authentication = tokenProvider.getAuthentication(username, verifiedToken.getAuthorities());
+        return chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+
+    private boolean isPublic(PathContainer path) {
+        return publicUrls.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+}
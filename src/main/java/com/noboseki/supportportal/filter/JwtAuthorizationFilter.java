@@ -1,9 +1,12 @@
 package com.noboseki.supportportal.filter;
 
+import com.noboseki.supportportal.domain.VerifiedToken;
 import com.noboseki.supportportal.utility.JWTTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -13,9 +16,9 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 
 import static com.google.common.net.HttpHeaders.AUTHORIZATION;
+import static com.noboseki.supportportal.constant.MetricsConstant.JWT_VERIFY_TIMER;
 import static com.noboseki.supportportal.constant.SecurityConstant.OPTIONS_HTTP_METHOD;
 import static com.noboseki.supportportal.constant.SecurityConstant.TOKEN_PREFIX;
 import static org.springframework.http.HttpStatus.OK;
@@ -24,6 +27,7 @@ import static org.springframework.http.HttpStatus.OK;
 @RequiredArgsConstructor
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final JWTTokenProvider tokenProvider;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -38,10 +42,17 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
                 return;
             }
             String token = authorizationHeader.substring(TOKEN_PREFIX.length());
-            String username = this.tokenProvider.getSubject(token);
-            if (tokenProvider.isTokenValid(username, token) && SecurityContextHolder.getContext().getAuthentication() == null) {
-                List<GrantedAuthority> authorities = tokenProvider.getAuthorities(token);
-                Authentication authentication = tokenProvider.getAuthentication(username, authorities, request);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            VerifiedToken verifiedToken;
+            try {
+                verifiedToken = tokenProvider.verifyToken(token);
+            } finally {
+                sample.stop(meterRegistry.timer(JWT_VERIFY_TIMER));
+            }
+            String username = verifiedToken.getSubject();
+            if (StringUtils.isNotEmpty(username) && !verifiedToken.isExpired()
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                Authentication authentication = tokenProvider.getAuthentication(username, verifiedToken.getAuthorities(), request);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } else {
                 SecurityContextHolder.clearContext();
@@ -0,0 +1,173 @@
+package com.noboseki.supportportal.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.io.ByteStreams;
+import com.noboseki.supportportal.domain.HttpResponse;
+import com.noboseki.supportportal.utility.TokenBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static com.noboseki.supportportal.constant.SecurityConstant.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+    private final RequestMatcher loginRequestMatcher = new AntPathRequestMatcher(LOGIN_URL, POST_HTTP_METHOD);
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final LoadingCache<String, TokenBucket> ipBuckets;
+    private final LoadingCache<String, TokenBucket> usernameBuckets;
+    private final TokenBucket globalBucket;
+
+    public LoginRateLimitFilter(@Value("${login-rate-limit.ip.capacity:10}") long ipCapacity,
+                                @Value("${login-rate-limit.ip.refill-per-second:1}") double ipRefill,
+                                @Value("${login-rate-limit.username.capacity:5}") long usernameCapacity,
+                                @Value("${login-rate-limit.username.refill-per-second:0.2}") double usernameRefill,
+                                @Value("${login-rate-limit.global.capacity:200}") long globalCapacity,
+                                @Value("${login-rate-limit.global.refill-per-second:100}") double globalRefill,
+                                @Value("${login-rate-limit.idle-eviction-minutes:10}") long idleEvictionMinutes,
+                                @Value("${login-rate-limit.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this.ipBuckets = buildBuckets(ipCapacity, ipRefill, idleEvictionMinutes, maxTrackedKeys);
+        this.usernameBuckets = buildBuckets(usernameCapacity, usernameRefill, idleEvictionMinutes, maxTrackedKeys);
+        this.globalBucket = new TokenBucket(globalCapacity, globalRefill);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !loginRequestMatcher.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        TokenBucket ipBucket = ipBuckets.getUnchecked(request.getRemoteAddr());
+        if (!ipBucket.tryConsume()) {
+            reject(response);
+            return;
+        }
+        byte[] body = ByteStreams.toByteArray(ByteStreams.limit(request.getInputStream(), MAXIMUM_LOGIN_BODY_SIZE));
+        String username = readUsername(body);
+        TokenBucket usernameBucket = username == null ? null : usernameBuckets.getUnchecked(username);
+        if (usernameBucket != null && !usernameBucket.tryConsume()) {
+            ipBucket.refund();
+            reject(response);
+            return;
+        }
+        if (!globalBucket.tryConsume()) {
+            ipBucket.refund();
+            if (usernameBucket != null) {
+                usernameBucket.refund();
+            }
+            reject(response);
+            return;
+        }
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private String readUsername(byte[] body) {
+        try {
+            JsonNode username = mapper.readTree(body).get("username");
+            return username == null || !username.isTextual() ? null : username.asText();
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        HttpResponse httpResponse = HttpResponse.builder()
+                .httpStatusCode(TOO_MANY_REQUESTS.value())
+                .httpStatus(TOO_MANY_REQUESTS)
+                .reason(TOO_MANY_REQUESTS.getReasonPhrase().toUpperCase())
+                .message(TOO_MANY_LOGIN_ATTEMPTS).build();
+
+        response.setContentType(APPLICATION_JSON_VALUE);
+        response.setStatus(TOO_MANY_REQUESTS.value());
+        response.setHeader(RETRY_AFTER, "1");
+
+        OutputStream outputStream = response.getOutputStream();
+        mapper.writeValue(outputStream, httpResponse);
+        outputStream.flush();
+    }
+
+    private static LoadingCache<String, TokenBucket> buildBuckets(long capacity, double refillPerSecond,
+                                                                  long idleEvictionMinutes, long maxTrackedKeys) {
+        return CacheBuilder
+                .newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(idleEvictionMinutes, TimeUnit.MINUTES)
+                .build(new CacheLoader<String, TokenBucket>() {
+                    public TokenBucket load(String key) {
+                        return new TokenBucket(capacity, refillPerSecond);
+                    }
+                });
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return inputStream.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), UTF_8));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.noboseki.supportportal.filter;
+
+import com.noboseki.supportportal.utility.QueryCountingStatementInspector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTags;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.noboseki.supportportal.constant.MetricsConstant.REQUEST_QUERIES;
+
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+    private static final String QUERY_COUNT_ATTRIBUTE = QueryCountFilter.class.getName() + ".queries";
+    private final QueryCountingStatementInspector statementInspector;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AtomicLong queries = (AtomicLong) request.getAttribute(QUERY_COUNT_ATTRIBUTE);
+        if (queries == null) {
+            queries = new AtomicLong();
+            request.setAttribute(QUERY_COUNT_ATTRIBUTE, queries);
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(QUERY_COUNT_ATTRIBUTE, new AsyncQueryCounting(queries));
+        }
+        statementInspector.startCounting(queries);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statementInspector.stopCounting();
+            if (!request.isAsyncStarted()) {
+                DistributionSummary.builder(REQUEST_QUERIES)
+                        .tags(Tags.of(WebMvcTags.method(request), WebMvcTags.uri(request, response)))
+                        .register(meterRegistry)
+                        .record(queries.get());
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private class AsyncQueryCounting implements CallableProcessingInterceptor {
+        private final AtomicLong queries;
+
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            statementInspector.startCounting(queries);
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            statementInspector.stopCounting();
+        }
+    }
+}
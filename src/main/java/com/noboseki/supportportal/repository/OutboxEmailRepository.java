@@ -0,0 +1,21 @@
+package com.noboseki.supportportal.repository;
+
+import com.noboseki.supportportal.domain.OutboxEmail;
+import com.noboseki.supportportal.enumeration.OutboxEmailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<OutboxEmail> findByStatusAndNextAttemptDateLessThanEqualOrderByIdAsc(OutboxEmailStatus status, Date now, Pageable pageable);
+
+    long countByStatus(OutboxEmailStatus status);
+}
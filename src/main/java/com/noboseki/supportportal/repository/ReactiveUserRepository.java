@@ -0,0 +1,15 @@
+package com.noboseki.supportportal.repository;
+
+import com.noboseki.supportportal.domain.UserRecord;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveUserRepository extends ReactiveCrudRepository<UserRecord, Long> {
+
+    Mono<UserRecord> findUserByUsername(String username);
+
+    Flux<UserRecord> findAllByOrderByIdAsc();
+}
@@ -1,15 +1,87 @@
 package com.noboseki.supportportal.repository;
 
 import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.domain.UserIdentityConflict;
+import com.noboseki.supportportal.enumeration.ProfileImageStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // MySQL Connector/J ignores the fetch size unless useCursorFetch=true is set on the connection
+    String STREAM_FETCH_SIZE = "500";
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<User> findUserByUsername(String user);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<User> findUserByEmail(String email);
+
+    @Query(nativeQuery = true, value = "SELECT " +
+            "CASE WHEN EXISTS (SELECT 1 FROM user WHERE username = :username AND id <> :excludedId) THEN 1 ELSE 0 END AS usernameMatches, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM user WHERE email = :email AND id <> :excludedId) THEN 1 ELSE 0 END AS emailMatches")
+    UserIdentityConflict findIdentityConflict(@Param("username") String username,
+                                              @Param("email") String email,
+                                              @Param("excludedId") Long excludedId);
+
+    @Query("select u.username from User u where u.username in :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("select u.email from User u where u.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // updated through the managed entity: a JPQL bulk update would evict the whole User second-level cache region
+    @Transactional
+    default void updateProfileImage(Long id, String url, ProfileImageStatus status) {
+        findById(id).ifPresent(user -> {
+            user.setProfileImageUrl(url);
+            user.setProfileImageStatus(status);
+        });
+    }
+
+    @Transactional
+    default int updatePassword(Long id, String password, String previousPassword) {
+        return findById(id)
+                .filter(user -> previousPassword.equals(user.getPassword()))
+                .map(user -> {
+                    user.setPassword(password);
+                    return 1;
+                })
+                .orElse(0);
+    }
+
+    @Transactional
+    default void updateNotLocked(Long id, boolean notLocked) {
+        findById(id).ifPresent(user -> user.setNotLocked(notLocked));
+    }
+
+    @Transactional
+    default void updateProfileImageStatus(Long id, ProfileImageStatus status) {
+        findById(id).ifPresent(user -> user.setProfileImageStatus(status));
+    }
+
+    @QueryHints(@QueryHint(name = HINT_CACHE_MODE, value = "IGNORE"))
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("select u from User u order by u.id")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE")})
+    Stream<User> streamAllUsers();
 }
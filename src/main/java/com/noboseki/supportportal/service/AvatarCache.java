@@ -0,0 +1,230 @@
+package com.noboseki.supportportal.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.noboseki.supportportal.constant.FileConstant.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+@Slf4j
+@Service
+public class AvatarCache {
+    private final AvatarSource avatarSource;
+    private final Semaphore fetchPermits;
+    private final long fetchWaitMillis;
+    private final Cache<String, byte[]> memoryCache;
+    private final Cache<Path, Integer> diskIndex;
+    private final ConcurrentMap<String, CompletableFuture<byte[]>> loadsInFlight = new ConcurrentHashMap<>();
+
+    public AvatarCache(AvatarSource avatarSource,
+                       @Value("${avatar.memory-cache-bytes:16777216}") long memoryCacheBytes,
+                       @Value("${avatar.disk-cache-bytes:268435456}") long diskCacheBytes,
+                       @Value("${avatar.max-concurrent-fetches:8}") int maxConcurrentFetches,
+                       @Value("${avatar.fetch-wait:2000}") long fetchWaitMillis) {
+        this.avatarSource = avatarSource;
+        this.fetchPermits = new Semaphore(maxConcurrentFetches);
+        this.fetchWaitMillis = fetchWaitMillis;
+        this.memoryCache = CacheBuilder
+                .newBuilder()
+                .maximumWeight(memoryCacheBytes)
+                .weigher((String username, byte[] avatar) -> avatar.length)
+                .recordStats()
+                .build();
+        this.diskIndex = CacheBuilder
+                .newBuilder()
+                .concurrencyLevel(1)
+                .maximumWeight(diskCacheBytes)
+                .weigher((Path avatarFile, Integer size) -> size)
+                .removalListener((RemovalNotification<Path, Integer> notification) -> {
+                    if (notification.wasEvicted()) {
+                        deleteFromDisk(notification.getKey());
+                    }
+                })
+                .build();
+    }
+
+    @PostConstruct
+    public void indexDiskCache() {
+        Path avatarFolder = Paths.get(AVATAR_FOLDER).toAbsolutePath().normalize();
+        if (!Files.isDirectory(avatarFolder)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(avatarFolder)) {
+            files.filter(Files::isRegularFile)
+                    .sorted(Comparator.comparing(this::lastModified))
+                    .forEach(avatarFile -> {
+                        if (avatarFile.getFileName().toString().endsWith(UPLOAD_EXTENSION)) {
+                            deleteFromDisk(avatarFile);
+                        } else {
+                            diskIndex.put(avatarFile, (int) avatarFile.toFile().length());
+                        }
+                    });
+        } catch (IOException exception) {
+            log.warn("Could not index avatar disk cache: {}", avatarFolder, exception);
+        }
+    }
+
+    public byte[] getAvatar(String username) throws IOException {
+        byte[] avatar = memoryCache.getIfPresent(username);
+        if (avatar != null) {
+            return avatar;
+        }
+        CompletableFuture<byte[]> load = new CompletableFuture<>();
+        CompletableFuture<byte[]> inFlight = loadsInFlight.putIfAbsent(username, load);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            avatar = loadAvatar(username);
+            memoryCache.put(username, avatar);
+            load.complete(avatar);
+            return avatar;
+        } catch (IOException | RuntimeException exception) {
+            load.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            loadsInFlight.remove(username, load);
+        }
+    }
+
+    public Mono<byte[]> getAvatarAsync(String username) {
+        byte[] avatar = memoryCache.getIfPresent(username);
+        if (avatar != null) {
+            return Mono.just(avatar);
+        }
+        CompletableFuture<byte[]> load = new CompletableFuture<>();
+        CompletableFuture<byte[]> inFlight = loadsInFlight.putIfAbsent(username, load);
+        if (inFlight != null) {
+            return Mono.fromFuture(inFlight);
+        }
+        Path avatarFile = avatarFile(username);
+        Mono.fromCallable(() -> readFromDisk(avatarFile))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(Mono.defer(() -> fetchAvatarAsync(username))
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(fetched -> writeToDisk(avatarFile, fetched)))
+                .doFinally(signal -> loadsInFlight.remove(username, load))
+                .subscribe(loaded -> {
+                    memoryCache.put(username, loaded);
+                    load.complete(loaded);
+                }, load::completeExceptionally, () -> load.complete(new byte[0]));
+        return Mono.fromFuture(load);
+    }
+
+    public CacheStats getMemoryCacheStats() {
+        return memoryCache.stats();
+    }
+
+    private byte[] await(CompletableFuture<byte[]> load) throws IOException {
+        try {
+            return load.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException(exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof IOException) {
+                throw (IOException) exception.getCause();
+            }
+            throw new IOException(exception.getCause());
+        }
+    }
+
+    private byte[] loadAvatar(String username) throws IOException {
+        Path avatarFile = avatarFile(username);
+        byte[] avatar = readFromDisk(avatarFile);
+        if (avatar != null) {
+            return avatar;
+        }
+        avatar = fetchAvatar(username);
+        writeToDisk(avatarFile, avatar);
+        return avatar;
+    }
+
+    private byte[] fetchAvatar(String username) throws IOException {
+        try {
+            if (!fetchPermits.tryAcquire(fetchWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new IOException(AVATAR_FETCH_BUSY + username);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException(AVATAR_FETCH_BUSY + username, exception);
+        }
+        try {
+            return avatarSource.fetchAvatar(username);
+        } finally {
+            fetchPermits.release();
+        }
+    }
+
+    private Mono<byte[]> fetchAvatarAsync(String username) {
+        if (!fetchPermits.tryAcquire()) {
+            return Mono.error(new IOException(AVATAR_FETCH_BUSY + username));
+        }
+        return avatarSource.fetchAvatarAsync(username).doFinally(signal -> fetchPermits.release());
+    }
+
+    private Path avatarFile(String username) {
+        return Paths.get(AVATAR_FOLDER).toAbsolutePath().normalize()
+                .resolve(Hashing.sha256().hashString(username, UTF_8).toString());
+    }
+
+    private byte[] readFromDisk(Path avatarFile) throws IOException {
+        if (diskIndex.getIfPresent(avatarFile) == null || !Files.exists(avatarFile)) {
+            return null;
+        }
+        return Files.readAllBytes(avatarFile);
+    }
+
+    private void writeToDisk(Path avatarFile, byte[] avatar) {
+        try {
+            Files.createDirectories(avatarFile.getParent());
+            Path temporaryFile = Files.createTempFile(avatarFile.getParent(), avatarFile.getFileName().toString(), UPLOAD_EXTENSION);
+            Files.write(temporaryFile, avatar);
+            Files.move(temporaryFile, avatarFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            diskIndex.put(avatarFile, avatar.length);
+        } catch (IOException exception) {
+            log.warn("Could not cache avatar on disk: {}", avatarFile, exception);
+        }
+    }
+
+    private void deleteFromDisk(Path avatarFile) {
+        try {
+            Files.deleteIfExists(avatarFile);
+        } catch (IOException exception) {
+            log.warn("Could not evict avatar from disk: {}", avatarFile, exception);
+        }
+    }
+
+    private FileTime lastModified(Path avatarFile) {
+        try {
+            return Files.getLastModifiedTime(avatarFile);
+        } catch (IOException exception) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
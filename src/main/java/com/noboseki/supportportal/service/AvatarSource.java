@@ -0,0 +1,15 @@
+package com.noboseki.supportportal.service;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+
+public interface AvatarSource {
+
+    byte[] fetchAvatar(String username) throws IOException;
+
+    default Mono<byte[]> fetchAvatarAsync(String username) {
+        return Mono.fromCallable(() -> fetchAvatar(username)).subscribeOn(Schedulers.boundedElastic());
+    }
+}
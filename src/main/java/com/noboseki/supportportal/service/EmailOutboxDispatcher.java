@@ -0,0 +1,164 @@
+package com.noboseki.supportportal.service;
+
+import com.noboseki.supportportal.domain.OutboxEmail;
+import com.noboseki.supportportal.repository.OutboxEmailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.noboseki.supportportal.constant.EmailConstant.LAST_ERROR_MAX_LENGTH;
+import static com.noboseki.supportportal.constant.MetricsConstant.EMAIL_OUTBOX_ATTEMPTS;
+import static com.noboseki.supportportal.constant.MetricsConstant.EMAIL_OUTBOX_DISPATCH_TIMER;
+import static com.noboseki.supportportal.constant.MetricsConstant.FAILURE;
+import static com.noboseki.supportportal.constant.MetricsConstant.SUCCESS;
+import static com.noboseki.supportportal.constant.MetricsConstant.TAG_RESULT;
+import static com.noboseki.supportportal.enumeration.OutboxEmailStatus.FAILED;
+import static com.noboseki.supportportal.enumeration.OutboxEmailStatus.PENDING;
+
+@Slf4j
+@Service
+public class EmailOutboxDispatcher {
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final JavaMailSender javaMailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long claimTimeoutMillis;
+    private final Timer dispatchTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public EmailOutboxDispatcher(OutboxEmailRepository outboxEmailRepository,
+                                 JavaMailSender javaMailSender,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${email-outbox.batch-size:50}") int batchSize,
+                                 @Value("${email-outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${email-outbox.initial-backoff:5000}") long initialBackoffMillis,
+                                 @Value("${email-outbox.max-backoff:600000}") long maxBackoffMillis,
+                                 @Value("${email-outbox.claim-timeout:60000}") long claimTimeoutMillis,
+                                 MeterRegistry meterRegistry) {
+        this.outboxEmailRepository = outboxEmailRepository;
+        this.javaMailSender = javaMailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.claimTimeoutMillis = claimTimeoutMillis;
+        this.dispatchTimer = meterRegistry.timer(EMAIL_OUTBOX_DISPATCH_TIMER);
+        this.sentCounter = meterRegistry.counter(EMAIL_OUTBOX_ATTEMPTS, TAG_RESULT, SUCCESS);
+        this.failedCounter = meterRegistry.counter(EMAIL_OUTBOX_ATTEMPTS, TAG_RESULT, FAILURE);
+    }
+
+    @Scheduled(fixedDelayString = "${email-outbox.poll-interval:2000}", initialDelayString = "${email-outbox.poll-interval:2000}")
+    public int dispatch() {
+        return dispatchTimer.record(() -> {
+            int sent = 0;
+            List<OutboxEmail> batch;
+            do {
+                batch = transactionTemplate.execute(status -> claimBatch());
+                if (!batch.isEmpty()) {
+                    sent += dispatchBatch(batch);
+                }
+            } while (batch.size() == batchSize);
+            return sent;
+        });
+    }
+
+    private List<OutboxEmail> claimBatch() {
+        Date now = new Date();
+        List<OutboxEmail> batch = outboxEmailRepository
+                .findByStatusAndNextAttemptDateLessThanEqualOrderByIdAsc(PENDING, now, PageRequest.of(0, batchSize));
+        Date claimExpiry = new Date(now.getTime() + claimTimeoutMillis);
+        batch.forEach(email -> email.setNextAttemptDate(claimExpiry));
+        return batch;
+    }
+
+    private int dispatchBatch(List<OutboxEmail> batch) {
+        SimpleMailMessage[] messages = batch.stream().map(this::toMessage).toArray(SimpleMailMessage[]::new);
+        Map<Object, Exception> failures = send(messages);
+        List<OutboxEmail> delivered = new ArrayList<>();
+        List<OutboxEmail> retried = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Exception failure = failures.get(messages[i]);
+            if (failure == null) {
+                delivered.add(batch.get(i));
+            } else {
+                scheduleRetry(batch.get(i), failure);
+                retried.add(batch.get(i));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEmailRepository.deleteInBatch(delivered);
+            outboxEmailRepository.saveAll(retried);
+        });
+        int sent = delivered.size();
+        sentCounter.increment(sent);
+        failedCounter.increment(batch.size() - sent);
+        log.debug("Dispatched {} of {} outbox emails", sent, batch.size());
+        return sent;
+    }
+
+    private Map<Object, Exception> send(SimpleMailMessage[] messages) {
+        try {
+            javaMailSender.send(messages);
+            return Collections.emptyMap();
+        } catch (MailSendException exception) {
+            return exception.getFailedMessages().isEmpty() ? failAll(messages, exception) : exception.getFailedMessages();
+        } catch (MailException exception) {
+            return failAll(messages, exception);
+        }
+    }
+
+    private Map<Object, Exception> failAll(SimpleMailMessage[] messages, Exception exception) {
+        Map<Object, Exception> failures = new HashMap<>();
+        for (SimpleMailMessage message : messages) {
+            failures.put(message, exception);
+        }
+        return failures;
+    }
+
+    private void scheduleRetry(OutboxEmail email, Exception failure) {
+        email.setAttempts(email.getAttempts() + 1);
+        email.setLastError(StringUtils.abbreviate(failure.getMessage(), LAST_ERROR_MAX_LENGTH));
+        if (email.getAttempts() >= maxAttempts) {
+            email.setStatus(FAILED);
+            email.setText(null);
+            log.error("Giving up on outbox email {} after {} attempts", email.getId(), email.getAttempts(), failure);
+            return;
+        }
+        long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(email.getAttempts() - 1, 30));
+        email.setNextAttemptDate(new Date(System.currentTimeMillis() + backoff));
+        log.warn("Outbox email {} failed, retrying in {} ms: {}", email.getId(), backoff, failure.getMessage());
+    }
+
+    private SimpleMailMessage toMessage(OutboxEmail email) {
+        SimpleMailMessage mailMessage = new SimpleMailMessage();
+        mailMessage.setTo(email.getRecipient());
+        mailMessage.setSubject(email.getSubject());
+        mailMessage.setFrom(email.getSender());
+        mailMessage.setSentDate(new Date());
+        mailMessage.setText(email.getText());
+        return mailMessage;
+    }
+}
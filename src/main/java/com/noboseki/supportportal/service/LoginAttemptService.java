@@ -1,51 +1,14 @@
 package com.noboseki.supportportal.service;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import org.springframework.stereotype.Service;
+public interface LoginAttemptService {
+    int MAXIMUM_NUMBER_OF_ATTEMPTS = 5;
+    int ATTEMPTS_INCREMENT = 1;
 
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
+    void evictUserFromLoginAttemptCache(String username);
 
-@Service
-public class LoginAttemptService {
-    public static final int MAXIMUM_NUMBER_OF_ATTEMPTS = 5;
-    public static final int ATTEMPTS_INCREMENT = 1;
-    public LoadingCache<String, Integer> loginAttemptCache;
+    void addUserToLoginAttemptCache(String username);
 
-    public LoginAttemptService() {
-        super();
-        this.loginAttemptCache = CacheBuilder
-                .newBuilder()
-                .expireAfterAccess(15, TimeUnit.MINUTES)
-                .maximumSize(100).build(new CacheLoader<String, Integer>() {
-                    public Integer load(String key) {
-                        return 0;
-                    }
-                });
-    }
+    boolean hasExceededMaxAttempts(String username);
 
-    public void evictUserFromLoginAttemptCache(String username) {
-        loginAttemptCache.invalidate(username);
-    }
-
-    public void addUserToLoginAttemptCache(String username) {
-        int attempts = 0;
-        try {
-            attempts = ATTEMPTS_INCREMENT + loginAttemptCache.get(username);
-        } catch (ExecutionException e) {
-            e.printStackTrace();
-        }
-        loginAttemptCache.put(username, attempts);
-    }
-
-    public boolean hasExceededMaxAttempts(String username) {
-        try {
-            return loginAttemptCache.get(username) >= MAXIMUM_NUMBER_OF_ATTEMPTS;
-        } catch (ExecutionException e) {
-            e.printStackTrace();
-        }
-        return false;
-    }
+    int getAttempts(String username);
 }
@@ -0,0 +1,92 @@
+package com.noboseki.supportportal.service;
+
+import com.noboseki.supportportal.domain.User;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginTimestampRecorder {
+    private static final String UPDATE_LOGIN_DATES =
+            "UPDATE user SET last_login_date = ?, last_login_date_display = ? WHERE id = ?";
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCache userCache;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ConcurrentMap<Long, LoginTimestamp> pendingTimestamps = new ConcurrentHashMap<>();
+
+    public void recordLogin(User user) {
+        applyPendingTimestamps(user);
+        user.setLastLoginDateDisplay(user.getLastLoginDate());
+        user.setLastLoginDate(new Date());
+        pendingTimestamps.merge(user.getId(), new LoginTimestamp(user.getLastLoginDate(), user.getLastLoginDateDisplay()),
+                (pending, recorded) -> pending.getLastLoginDate().after(recorded.getLastLoginDate()) ? pending : recorded);
+    }
+
+    public User applyPendingTimestamps(User user) {
+        LoginTimestamp pending = user.getId() == null ? null : pendingTimestamps.get(user.getId());
+        if (pending != null) {
+            user.setLastLoginDate(pending.getLastLoginDate());
+            user.setLastLoginDateDisplay(pending.getLastLoginDateDisplay());
+        }
+        return user;
+    }
+
+    public void forget(Long userId) {
+        pendingTimestamps.remove(userId);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${login-timestamp.flush-interval:5000}")
+    public void flush() {
+        List<Long> userIds = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<Long, LoginTimestamp> entry : pendingTimestamps.entrySet()) {
+            if (pendingTimestamps.remove(entry.getKey(), entry.getValue())) {
+                userIds.add(entry.getKey());
+                batchArgs.add(new Object[]{toTimestamp(entry.getValue().getLastLoginDate()),
+                        toTimestamp(entry.getValue().getLastLoginDateDisplay()), entry.getKey()});
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LOGIN_DATES, batchArgs);
+            userIds.forEach(userId -> entityManagerFactory.getCache().evict(User.class, userId));
+            userCache.invalidateAll(userIds);
+            log.debug("Flushed {} login timestamps", batchArgs.size());
+        } catch (RuntimeException exception) {
+            log.error("Could not flush login timestamps", exception);
+            for (int i = 0; i < userIds.size(); i++) {
+                Object[] args = batchArgs.get(i);
+                pendingTimestamps.putIfAbsent(userIds.get(i), new LoginTimestamp((Date) args[0], (Date) args[1]));
+            }
+        }
+    }
+
+    private Timestamp toTimestamp(Date date) {
+        return date == null ? null : new Timestamp(date.getTime());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class LoginTimestamp {
+        private final Date lastLoginDate;
+        private final Date lastLoginDateDisplay;
+    }
+}
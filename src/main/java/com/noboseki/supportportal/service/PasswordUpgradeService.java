@@ -0,0 +1,77 @@
+package com.noboseki.supportportal.service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.repository.UserRepository;
+import com.noboseki.supportportal.utility.BoundedPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class PasswordUpgradeService {
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final ExecutorService executor;
+    private final Set<Long> pendingUpgrades = ConcurrentHashMap.newKeySet();
+
+    public PasswordUpgradeService(BoundedPasswordEncoder passwordEncoder,
+                                  UserRepository userRepository,
+                                  UserCache userCache,
+                                  @Value("${password-hashing.upgrade-queue-capacity:100}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("password-upgrade-%d").setDaemon(true).build());
+    }
+
+    public boolean isUpgradeNeeded(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public void scheduleUpgrade(User user, String rawPassword) {
+        Long userId = user.getId();
+        String previousPassword = user.getPassword();
+        if (!pendingUpgrades.add(userId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> upgrade(userId, previousPassword, rawPassword));
+        } catch (RejectedExecutionException exception) {
+            pendingUpgrades.remove(userId);
+            log.debug("Password upgrade queue is full, skipping user {}", userId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void upgrade(Long userId, String previousPassword, String rawPassword) {
+        try {
+            int updated = userRepository.updatePassword(userId, passwordEncoder.encode(rawPassword), previousPassword);
+            if (updated == 1) {
+                userCache.invalidate(userId);
+            }
+            log.debug("Upgraded password hash for user {}: {}", userId, updated == 1);
+        } catch (RuntimeException exception) {
+            log.warn("Could not upgrade password hash for user {}", userId, exception);
+        } finally {
+            pendingUpgrades.remove(userId);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.noboseki.supportportal.service;
+
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.exception.domain.ImageProcessingBusyException;
+import com.noboseki.supportportal.exception.domain.NotAnImageFileException;
+import com.noboseki.supportportal.repository.UserRepository;
+import com.noboseki.supportportal.utility.WorkerThreads;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.noboseki.supportportal.constant.FileConstant.*;
+import static com.noboseki.supportportal.constant.MetricsConstant.IMAGE_BYTES;
+import static com.noboseki.supportportal.constant.MetricsConstant.READ;
+import static com.noboseki.supportportal.constant.MetricsConstant.TAG_DIRECTION;
+import static com.noboseki.supportportal.constant.MetricsConstant.WRITE;
+import static com.noboseki.supportportal.enumeration.ProfileImageStatus.*;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+@Slf4j
+@Service
+public class ProfileImageProcessor {
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] GIF87_MAGIC = {'G', 'I', 'F', '8', '7', 'a'};
+    private static final byte[] GIF89_MAGIC = {'G', 'I', 'F', '8', '9', 'a'};
+    private static final int MAGIC_LENGTH = 8;
+
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final DistributionSummary bytesRead;
+    private final DistributionSummary bytesWritten;
+
+    public ProfileImageProcessor(UserRepository userRepository,
+                                 UserCache userCache,
+                                 @Value("${profile-image.pool-size:2}") int poolSize,
+                                 @Value("${profile-image.queue-capacity:50}") int queueCapacity,
+                                 MeterRegistry meterRegistry,
+                                 WorkerThreads workerThreads) {
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                workerThreads.threadFactory("profile-image-"));
+        this.permits = new Semaphore(poolSize + queueCapacity);
+        this.bytesRead = meterRegistry.summary(IMAGE_BYTES, TAG_DIRECTION, READ);
+        this.bytesWritten = meterRegistry.summary(IMAGE_BYTES, TAG_DIRECTION, WRITE);
+    }
+
+    public void submit(User user, MultipartFile profileImage, String profileImageUrl)
+            throws IOException, NotAnImageFileException, ImageProcessingBusyException {
+        validateMagicBytes(profileImage);
+        if (!permits.tryAcquire()) {
+            throw new ImageProcessingBusyException(IMAGE_PROCESSING_BUSY);
+        }
+        Path stagedImage;
+        try {
+            Path stagingFolder = Paths.get(STAGING_FOLDER).toAbsolutePath().normalize();
+            Files.createDirectories(stagingFolder);
+            stagedImage = stagingFolder.resolve(UUID.randomUUID() + UPLOAD_EXTENSION);
+            profileImage.transferTo(stagedImage.toFile());
+            bytesWritten.record(profileImage.getSize());
+        } catch (IOException | RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+        user.setProfileImageStatus(PENDING);
+        ProfileImageTask task = new ProfileImageTask(user.getId(), user.getUsername(), stagedImage, profileImageUrl);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        executor.execute(task);
+                    } else {
+                        task.discard();
+                    }
+                }
+            });
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void validateMagicBytes(MultipartFile profileImage) throws IOException, NotAnImageFileException {
+        byte[] header = new byte[MAGIC_LENGTH];
+        int read;
+        try (InputStream inputStream = profileImage.getInputStream()) {
+            read = readFully(inputStream, header);
+        }
+        if (!startsWith(header, read, JPEG_MAGIC) && !startsWith(header, read, PNG_MAGIC)
+                && !startsWith(header, read, GIF87_MAGIC) && !startsWith(header, read, GIF89_MAGIC)) {
+            throw new NotAnImageFileException(profileImage.getOriginalFilename() + NOT_AN_IMAGE_FILE);
+        }
+    }
+
+    private int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+        int total = 0;
+        int bytesRead;
+        while (total < buffer.length && (bytesRead = inputStream.read(buffer, total, buffer.length - total)) > 0) {
+            total += bytesRead;
+        }
+        return total;
+    }
+
+    private boolean startsWith(byte[] header, int length, byte[] magic) {
+        return length >= magic.length && Arrays.equals(Arrays.copyOf(header, magic.length), magic);
+    }
+
+    private class ProfileImageTask implements Runnable {
+        private final Long userId;
+        private final String username;
+        private final Path stagedImage;
+        private final String profileImageUrl;
+
+        private ProfileImageTask(Long userId, String username, Path stagedImage, String profileImageUrl) {
+            this.userId = userId;
+            this.username = username;
+            this.stagedImage = stagedImage;
+            this.profileImageUrl = profileImageUrl;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Path userFolder = Paths.get(USER_FOLDER + username).toAbsolutePath().normalize();
+                if (!Files.exists(userFolder)) {
+                    Files.createDirectories(userFolder);
+                    log.info(DIRECTORY_CREATED, userFolder);
+                }
+                Path image = userFolder.resolve(username + DOT + JPG_EXTENSION);
+                Files.move(stagedImage, image, REPLACE_EXISTING);
+                writeThumbnails(image, userFolder);
+                userRepository.updateProfileImage(userId, profileImageUrl, READY);
+                userCache.invalidate(userId);
+                log.info(FILE_SAVED_IN_FILE_SYSTEM, image);
+            } catch (Exception exception) {
+                log.error("Profile image processing failed for {}", username, exception);
+                userRepository.updateProfileImageStatus(userId, FAILED);
+                userCache.invalidate(userId);
+            } finally {
+                discard();
+            }
+        }
+
+        private void writeThumbnails(Path image, Path userFolder) throws IOException {
+            BufferedImage original = ImageIO.read(image.toFile());
+            if (original == null) {
+                throw new IOException(image + NOT_AN_IMAGE_FILE);
+            }
+            bytesRead.record(Files.size(image));
+            int side = Math.min(original.getWidth(), original.getHeight());
+            int left = (original.getWidth() - side) / 2;
+            int top = (original.getHeight() - side) / 2;
+            for (int size : THUMBNAIL_SIZES) {
+                BufferedImage thumbnail = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+                Graphics2D graphics = thumbnail.createGraphics();
+                try {
+                    graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                    graphics.drawImage(original, 0, 0, size, size, left, top, left + side, top + side, null);
+                } finally {
+                    graphics.dispose();
+                }
+                Path thumbnailFile = userFolder.resolve(username + THUMBNAIL_SEPARATOR + size + DOT + JPG_EXTENSION);
+                ImageIO.write(thumbnail, JPG_EXTENSION, thumbnailFile.toFile());
+                bytesWritten.record(Files.size(thumbnailFile));
+            }
+        }
+
+        private void discard() {
+            try {
+                Files.deleteIfExists(stagedImage);
+            } catch (IOException exception) {
+                log.warn("Could not delete staged image {}", stagedImage, exception);
+            } finally {
+                permits.release();
+            }
+        }
+    }
+}
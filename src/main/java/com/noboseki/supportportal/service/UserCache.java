@@ -0,0 +1,134 @@
+package com.noboseki.supportportal.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.noboseki.supportportal.domain.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@Service
+public class UserCache {
+    private final Cache<Long, User> users;
+    private final Cache<String, Long> usernameIndex;
+    private final Cache<String, Long> emailIndex;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private long invalidations;
+
+    public UserCache(@Value("${user-cache.maximum-size:10000}") long maximumSize,
+                     @Value("${user-cache.ttl:300000}") long ttlMillis) {
+        this.users = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        this.usernameIndex = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .build();
+        this.emailIndex = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public Optional<User> findByUsername(String username, Function<String, Optional<User>> loader) {
+        return find(usernameIndex, username, User::getUsername, loader);
+    }
+
+    public Optional<User> findByEmail(String email, Function<String, Optional<User>> loader) {
+        return find(emailIndex, email, User::getEmail, loader);
+    }
+
+    public void invalidate(Long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll(Collection<Long> userIds) {
+        userIds.forEach(this::invalidate);
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(),
+                totalLoadNanos.sum(), users.stats().evictionCount());
+    }
+
+    private Optional<User> find(Cache<String, Long> index, String key, Function<User, String> keyOf,
+                                Function<String, Optional<User>> loader) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        Long userId = index.getIfPresent(key);
+        User cached = userId == null ? null : users.getIfPresent(userId);
+        if (cached != null && key.equals(keyOf.apply(cached))) {
+            hits.increment();
+            return Optional.of(cached.toBuilder().build());
+        }
+        misses.increment();
+        long stamp = currentStamp();
+        long start = System.nanoTime();
+        Optional<User> loaded;
+        try {
+            loaded = loader.apply(key);
+        } catch (RuntimeException exception) {
+            loadFailures.increment();
+            throw exception;
+        } finally {
+            totalLoadNanos.add(System.nanoTime() - start);
+        }
+        loadSuccesses.increment();
+        loaded.ifPresent(user -> put(user, stamp));
+        return loaded;
+    }
+
+    private synchronized long currentStamp() {
+        return invalidations;
+    }
+
+    private synchronized void put(User user, long stamp) {
+        if (stamp != invalidations || user.getId() == null) {
+            return;
+        }
+        User copy = user.toBuilder().build();
+        users.put(copy.getId(), copy);
+        if (copy.getUsername() != null) {
+            usernameIndex.put(copy.getUsername(), copy.getId());
+        }
+        if (copy.getEmail() != null) {
+            emailIndex.put(copy.getEmail(), copy.getId());
+        }
+    }
+
+    private synchronized void evict(Long userId) {
+        invalidations++;
+        User removed = users.asMap().remove(userId);
+        if (removed != null) {
+            if (removed.getUsername() != null) {
+                usernameIndex.invalidate(removed.getUsername());
+            }
+            if (removed.getEmail() != null) {
+                emailIndex.invalidate(removed.getEmail());
+            }
+        }
+    }
+}
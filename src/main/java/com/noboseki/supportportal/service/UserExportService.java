@@ -0,0 +1,57 @@
+package com.noboseki.supportportal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.noboseki.supportportal.enumeration.UserDataFormat;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.noboseki.supportportal.constant.MetricsConstant.USER_EXPORT_TIMER;
+import static com.noboseki.supportportal.constant.UserImportConstant.EXPORT_COLUMNS;
+
+@Service
+public class UserExportService {
+    private final UserService userService;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectWriter csvWriter;
+
+    public UserExportService(UserService userService, ObjectMapper objectMapper) {
+        this.userService = userService;
+        this.ndjsonWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
+        CsvSchema.Builder schema = CsvSchema.builder().setUseHeader(true);
+        for (String column : EXPORT_COLUMNS) {
+            schema.addColumn(column);
+        }
+        this.csvWriter = new CsvMapper()
+                .writer(schema.build())
+                .with(JsonGenerator.Feature.IGNORE_UNKNOWN)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Timed(USER_EXPORT_TIMER)
+    public long exportUsers(OutputStream outputStream, UserDataFormat format) throws IOException {
+        AtomicLong exported = new AtomicLong();
+        try (SequenceWriter writer = (format == UserDataFormat.CSV ? csvWriter : ndjsonWriter).writeValues(outputStream)) {
+            userService.forEachUser(user -> {
+                try {
+                    writer.write(user);
+                    exported.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return exported.get();
+    }
+}
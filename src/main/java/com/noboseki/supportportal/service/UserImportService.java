@@ -0,0 +1,256 @@
+package com.noboseki.supportportal.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.domain.UserImportError;
+import com.noboseki.supportportal.domain.UserImportProgress;
+import com.noboseki.supportportal.dtos.ImportUserDto;
+import com.noboseki.supportportal.enumeration.UserDataFormat;
+import com.noboseki.supportportal.enumeration.Role;
+import com.noboseki.supportportal.exception.domain.PasswordHashingBusyException;
+import com.noboseki.supportportal.repository.UserRepository;
+import com.noboseki.supportportal.utility.BoundedPasswordEncoder;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static com.noboseki.supportportal.constant.FileConstant.DEFAULT_USER_IMAGE_PATH;
+import static com.noboseki.supportportal.constant.MetricsConstant.USER_IMPORT_TIMER;
+import static com.noboseki.supportportal.constant.UserImportConstant.*;
+import static com.noboseki.supportportal.constant.UserServiceImplConstant.EMAIL_ALREADY_EXIST;
+import static com.noboseki.supportportal.constant.UserServiceImplConstant.USER_ALREADY_EXIST;
+
+@Slf4j
+@Service
+public class UserImportService {
+    private final UserRepository userRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+    private final int batchSize;
+
+    public UserImportService(UserRepository userRepository,
+                             BoundedPasswordEncoder passwordEncoder,
+                             TransactionTemplate transactionTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${user-import.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = transactionTemplate;
+        this.ndjsonReader = objectMapper.readerFor(ImportUserDto.class);
+        this.csvReader = new CsvMapper()
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+                .readerFor(ImportUserDto.class)
+                .with(CsvSchema.emptySchema().withHeader());
+        this.batchSize = batchSize;
+    }
+
+    @Timed(USER_IMPORT_TIMER)
+    public UserImportProgress importUsers(InputStream input, UserDataFormat format, Consumer<UserImportProgress> listener)
+            throws IOException {
+        ObjectReader reader = format == UserDataFormat.CSV ? csvReader : ndjsonReader;
+        String profileImageBaseUrl = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path(DEFAULT_USER_IMAGE_PATH).toUriString();
+        ImportRun run = new ImportRun(profileImageBaseUrl);
+        try (MappingIterator<ImportUserDto> rows = reader.readValues(input)) {
+            List<ImportRow> batch = new ArrayList<>(batchSize);
+            while (readNext(rows, run, batch)) {
+                if (batch.size() == batchSize) {
+                    listener.accept(importBatch(batch, run, false));
+                    batch.clear();
+                }
+            }
+            UserImportProgress progress = importBatch(batch, run, true);
+            listener.accept(progress);
+            return progress;
+        }
+    }
+
+    private boolean readNext(MappingIterator<ImportUserDto> rows, ImportRun run, List<ImportRow> batch) {
+        long row = run.rowsRead + 1;
+        try {
+            if (!rows.hasNextValue()) {
+                return false;
+            }
+            ImportUserDto dto = rows.nextValue();
+            run.rowsRead = row;
+            String error = validate(dto, run);
+            if (error == null) {
+                batch.add(new ImportRow(row, dto));
+            } else {
+                run.pendingErrors.add(new UserImportError(row, dto.getUsername(), error));
+            }
+            return true;
+        } catch (JsonMappingException exception) {
+            run.rowsRead = row;
+            run.pendingErrors.add(new UserImportError(row, null, MALFORMED_ROW + exception.getOriginalMessage()));
+            return true;
+        } catch (IOException exception) {
+            run.rowsRead = row;
+            run.pendingErrors.add(new UserImportError(row, null, IMPORT_ABORTED + exception.getMessage()));
+            return false;
+        }
+    }
+
+    private String validate(ImportUserDto dto, ImportRun run) {
+        if (StringUtils.isBlank(dto.getUsername())) {
+            return USERNAME_REQUIRED;
+        }
+        if (StringUtils.isBlank(dto.getEmail())) {
+            return EMAIL_REQUIRED;
+        }
+        if (StringUtils.isNotBlank(dto.getRole()) && parseRole(dto.getRole()) == null) {
+            return UNKNOWN_ROLE + dto.getRole();
+        }
+        if (!run.usernames.add(dto.getUsername())) {
+            return USER_ALREADY_EXIST;
+        }
+        if (!run.emails.add(dto.getEmail())) {
+            run.usernames.remove(dto.getUsername());
+            return EMAIL_ALREADY_EXIST;
+        }
+        return null;
+    }
+
+    private UserImportProgress importBatch(List<ImportRow> batch, ImportRun run, boolean complete) {
+        List<UserImportError> errors = new ArrayList<>(run.pendingErrors);
+        run.pendingErrors.clear();
+        List<ImportRow> candidates = removeExisting(batch, errors);
+        if (!candidates.isEmpty()) {
+            try {
+                List<String> encodedPasswords = passwordEncoder.encodeAll(candidates.stream()
+                        .map(candidate -> RandomStringUtils.randomAlphabetic(10))
+                        .collect(Collectors.toList()));
+                List<User> users = new ArrayList<>(candidates.size());
+                for (int i = 0; i < candidates.size(); i++) {
+                    users.add(toUser(candidates.get(i).dto, encodedPasswords.get(i), run.profileImageBaseUrl));
+                }
+                run.imported += save(candidates, users, errors);
+            } catch (PasswordHashingBusyException exception) {
+                candidates.forEach(candidate -> errors.add(candidate.error(exception.getMessage())));
+            }
+        }
+        run.failed += errors.size();
+        return new UserImportProgress(run.rowsRead, run.imported, run.failed, complete, errors);
+    }
+
+    private List<ImportRow> removeExisting(List<ImportRow> batch, List<UserImportError> errors) {
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        Set<String> existingUsernames = userRepository.findExistingUsernames(
+                batch.stream().map(row -> row.dto.getUsername()).collect(Collectors.toList()));
+        Set<String> existingEmails = userRepository.findExistingEmails(
+                batch.stream().map(row -> row.dto.getEmail()).collect(Collectors.toList()));
+        List<ImportRow> candidates = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            if (existingUsernames.contains(row.dto.getUsername())) {
+                errors.add(row.error(USER_ALREADY_EXIST));
+            } else if (existingEmails.contains(row.dto.getEmail())) {
+                errors.add(row.error(EMAIL_ALREADY_EXIST));
+            } else {
+                candidates.add(row);
+            }
+        }
+        return candidates;
+    }
+
+    private int save(List<ImportRow> candidates, List<User> users, List<UserImportError> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+            return users.size();
+        } catch (DataIntegrityViolationException exception) {
+            log.warn("Batch insert hit a uniqueness conflict, retrying {} rows one by one", users.size());
+        }
+        int saved = 0;
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            user.setId(null);
+            try {
+                transactionTemplate.executeWithoutResult(status -> userRepository.save(user));
+                saved++;
+            } catch (DataIntegrityViolationException exception) {
+                String cause = String.valueOf(exception.getMostSpecificCause().getMessage());
+                errors.add(candidates.get(i).error(StringUtils.containsIgnoreCase(cause, User.EMAIL_UNIQUE_CONSTRAINT)
+                        ? EMAIL_ALREADY_EXIST : USER_ALREADY_EXIST));
+            }
+        }
+        return saved;
+    }
+
+    private User toUser(ImportUserDto dto, String encodedPassword, String profileImageBaseUrl) {
+        Role role = StringUtils.isBlank(dto.getRole()) ? Role.ROLE_USER : parseRole(dto.getRole());
+        return User.builder()
+                .userId(RandomStringUtils.randomNumeric(10))
+                .firstName(dto.getFirstName())
+                .lastName(dto.getLastName())
+                .username(dto.getUsername())
+                .email(dto.getEmail())
+                .password(encodedPassword)
+                .joinDate(new Date())
+                .isActive(StringUtils.isBlank(dto.getIsActive()) || Boolean.parseBoolean(dto.getIsActive()))
+                .isNotLocked(StringUtils.isBlank(dto.getIsNonLocked()) || Boolean.parseBoolean(dto.getIsNonLocked()))
+                .role(role.name())
+                .profileImageUrl(profileImageBaseUrl + dto.getUsername()).build();
+    }
+
+    private Role parseRole(String role) {
+        try {
+            return Role.valueOf(role.trim().toUpperCase());
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    private static class ImportRow {
+        private final long row;
+        private final ImportUserDto dto;
+
+        private ImportRow(long row, ImportUserDto dto) {
+            this.row = row;
+            this.dto = dto;
+        }
+
+        private UserImportError error(String message) {
+            return new UserImportError(row, dto.getUsername(), message);
+        }
+    }
+
+    private static class ImportRun {
+        private final String profileImageBaseUrl;
+        private final Set<String> usernames = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+        private final List<UserImportError> pendingErrors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long failed;
+
+        private ImportRun(String profileImageBaseUrl) {
+            this.profileImageBaseUrl = profileImageBaseUrl;
+        }
+    }
+}
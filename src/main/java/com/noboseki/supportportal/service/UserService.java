@@ -1,6 +1,7 @@
 package com.noboseki.supportportal.service;
 
 import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.domain.UserPage;
 import com.noboseki.supportportal.dtos.AddNewUserDto;
 import com.noboseki.supportportal.dtos.UpdateUserDto;
 import com.noboseki.supportportal.exception.domain.NotAnImageFileException;
@@ -8,27 +9,29 @@ import com.noboseki.supportportal.exception.domain.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface UserService {
 
-    User register(String firstName, String lastName, String username, String email) throws UserNotFoundException, UsernameExistException, EmailExistException, EmailSendException;
+    User register(String firstName, String lastName, String username, String email) throws UserNotFoundException, UsernameExistException, EmailExistException;
 
-    List<User> getUsers();
+    UserPage getUsersPage(Long afterId, Integer pageSize);
+
+    void forEachUser(Consumer<User> consumer);
 
     Optional<User> findByUsername(String username);
 
     Optional<User> findUserByEmail(String email);
 
     User addNewUser(AddNewUserDto addNewUserDto)
-            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException;
+            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException, ImageProcessingBusyException;
 
-    User updateUser(UpdateUserDto updateUserDto) throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException;
+    User updateUser(UpdateUserDto updateUserDto) throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException, ImageProcessingBusyException;
 
     void deleteUser(String username) throws IOException;
 
-    void resetPassword(String email) throws EmailNotFoundException, EmailSendException;
+    void resetPassword(String email) throws EmailNotFoundException;
 
-    User updateProfileImage(String username, MultipartFile profileImage) throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException;
+    User updateProfileImage(String username, MultipartFile profileImage) throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException, ImageProcessingBusyException;
 }
@@ -0,0 +1,49 @@
+package com.noboseki.supportportal.service.impl;
+
+import com.google.common.hash.Hashing;
+import com.noboseki.supportportal.service.AvatarSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static com.noboseki.supportportal.constant.FileConstant.JPG_EXTENSION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+@ConditionalOnProperty(name = "avatar.source", havingValue = "generated")
+public class GeneratedAvatarSource implements AvatarSource {
+    private static final int GRID = 5;
+    private static final int CELL_SIZE = 40;
+
+    @Override
+    public byte[] fetchAvatar(String username) throws IOException {
+        byte[] hash = Hashing.sha256().hashString(username, UTF_8).asBytes();
+        Color color = new Color(hash[0] & 0xFF, hash[1] & 0xFF, hash[2] & 0xFF);
+        BufferedImage image = new BufferedImage(GRID * CELL_SIZE, GRID * CELL_SIZE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.setColor(color);
+            for (int row = 0; row < GRID; row++) {
+                for (int column = 0; column <= GRID / 2; column++) {
+                    if ((hash[3 + row * GRID + column] & 1) == 1) {
+                        graphics.fillRect(column * CELL_SIZE, row * CELL_SIZE, CELL_SIZE, CELL_SIZE);
+                        graphics.fillRect((GRID - 1 - column) * CELL_SIZE, row * CELL_SIZE, CELL_SIZE, CELL_SIZE);
+                    }
+                }
+            }
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, JPG_EXTENSION, byteArrayOutputStream);
+        return byteArrayOutputStream.toByteArray();
+    }
+}
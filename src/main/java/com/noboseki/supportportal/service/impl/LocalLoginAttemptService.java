@@ -0,0 +1,52 @@
+package com.noboseki.supportportal.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.noboseki.supportportal.service.LoginAttemptService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+@Service
+@ConditionalOnProperty(name = "login-attempt.store", havingValue = "local", matchIfMissing = true)
+public class LocalLoginAttemptService implements LoginAttemptService {
+    private final Cache<String, Integer> attempts;
+
+    public LocalLoginAttemptService(@Value("${login-attempt.expire-after-minutes:15}") long expireAfterMinutes,
+                                    @Value("${login-attempt.max-tracked-usernames:100000}") long maxTrackedUsernames) {
+        this.attempts = CacheBuilder
+                .newBuilder()
+                .maximumSize(maxTrackedUsernames)
+                .expireAfterWrite(expireAfterMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    @Override
+    public void evictUserFromLoginAttemptCache(String username) {
+        attempts.invalidate(username);
+    }
+
+    @Override
+    public void addUserToLoginAttemptCache(String username) {
+        attempts.asMap().merge(username, ATTEMPTS_INCREMENT, Integer::sum);
+    }
+
+    @Override
+    public boolean hasExceededMaxAttempts(String username) {
+        return getAttempts(username) >= MAXIMUM_NUMBER_OF_ATTEMPTS;
+    }
+
+    @Override
+    public int getAttempts(String username) {
+        Integer count = attempts.getIfPresent(username);
+        return count == null ? 0 : count;
+    }
+
+    @Scheduled(fixedDelayString = "${login-attempt.sweep-interval:60000}")
+    public void evictExpiredAttempts() {
+        attempts.cleanUp();
+    }
+}
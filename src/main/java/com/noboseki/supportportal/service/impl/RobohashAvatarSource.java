@@ -0,0 +1,90 @@
+package com.noboseki.supportportal.service.impl;
+
+import com.noboseki.supportportal.service.AvatarSource;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.time.Duration;
+
+import static com.noboseki.supportportal.constant.FileConstant.AVATAR_TOO_LARGE;
+import static com.noboseki.supportportal.constant.FileConstant.TEMP_PROFILE_IMAGE_BASE_URL;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+@ConditionalOnProperty(name = "avatar.source", havingValue = "robohash", matchIfMissing = true)
+public class RobohashAvatarSource implements AvatarSource {
+    private final int connectTimeout;
+    private final int readTimeout;
+    private final int maximumSize;
+    private final String baseUrl;
+    private final WebClient webClient;
+
+    public RobohashAvatarSource(@Value("${avatar.base-url:" + TEMP_PROFILE_IMAGE_BASE_URL + "}") String baseUrl,
+                                @Value("${avatar.connect-timeout:2000}") int connectTimeout,
+                                @Value("${avatar.read-timeout:5000}") int readTimeout,
+                                @Value("${avatar.maximum-size:1048576}") int maximumSize,
+                                WebClient.Builder webClientBuilder) {
+        this.baseUrl = baseUrl;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.maximumSize = maximumSize;
+        this.webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create()
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                        .responseTimeout(Duration.ofMillis(readTimeout))))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maximumSize))
+                .build();
+    }
+
+    @Override
+    public byte[] fetchAvatar(String username) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl
+                + URLEncoder.encode(username, UTF_8.name())).openConnection();
+        connection.setConnectTimeout(connectTimeout);
+        connection.setReadTimeout(readTimeout);
+        try (InputStream inputStream = connection.getInputStream()) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            int bytesRead;
+            byte[] chunk = new byte[8192];
+            while ((bytesRead = inputStream.read(chunk)) > 0) {
+                if (byteArrayOutputStream.size() + bytesRead > maximumSize) {
+                    throw new IOException(AVATAR_TOO_LARGE + username);
+                }
+                byteArrayOutputStream.write(chunk, 0, bytesRead);
+            }
+            return byteArrayOutputStream.toByteArray();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @Override
+    public Mono<byte[]> fetchAvatarAsync(String username) {
+        URI avatarUri;
+        try {
+            avatarUri = URI.create(baseUrl + URLEncoder.encode(username, UTF_8.name()));
+        } catch (IOException exception) {
+            return Mono.error(exception);
+        }
+        return webClient.get().uri(avatarUri)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .onErrorMap(DataBufferLimitException.class, exception -> new IOException(AVATAR_TOO_LARGE + username, exception))
+                .onErrorMap(WebClientException.class, exception -> new IOException(exception.getMessage(), exception));
+    }
+}
@@ -1,6 +1,8 @@
 package com.noboseki.supportportal.service.impl;
 
 import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.domain.UserIdentityConflict;
+import com.noboseki.supportportal.domain.UserPage;
 import com.noboseki.supportportal.domain.UserPrincipal;
 import com.noboseki.supportportal.dtos.AddNewUserDto;
 import com.noboseki.supportportal.dtos.UpdateUserDto;
@@ -10,37 +12,44 @@ import com.noboseki.supportportal.exception.domain.*;
 import com.noboseki.supportportal.repository.UserRepository;
 import com.noboseki.supportportal.service.EmailService;
 import com.noboseki.supportportal.service.LoginAttemptService;
+import com.noboseki.supportportal.service.LoginTimestampRecorder;
+import com.noboseki.supportportal.service.ProfileImageProcessor;
+import com.noboseki.supportportal.service.UserCache;
 import com.noboseki.supportportal.service.UserService;
+import com.noboseki.supportportal.utility.BoundedPasswordEncoder;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.tomcat.util.http.fileupload.FileUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.persistence.CacheStoreMode;
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.noboseki.supportportal.constant.FileConstant.*;
+import static com.noboseki.supportportal.constant.MetricsConstant.USER_SERVICE_TIMER;
 import static com.noboseki.supportportal.constant.UserServiceImplConstant.*;
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
-import static org.springframework.util.MimeTypeUtils.*;
+import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
 
 @Slf4j
 @Service
@@ -49,24 +58,27 @@ import static org.springframework.util.MimeTypeUtils.*;
 @Qualifier("userDetailsService")
 public class UserServiceImpl implements UserService, UserDetailsService {
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final BoundedPasswordEncoder passwordEncoder;
     private final LoginAttemptService attemptService;
     private final EmailService emailService;
+    private final LoginTimestampRecorder loginTimestampRecorder;
+    private final ProfileImageProcessor profileImageProcessor;
+    private final UserCache userCache;
+    private final EntityManager entityManager;
 
     @Override
+    @Timed(USER_SERVICE_TIMER)
     public UserDetails loadUserByUsername(String username) {
-        User user = userRepository.findUserByUsername(username).orElseThrow(() -> {
-            log.error(NOT_FOUND_BY_USERNAME + username);
+        User user = userCache.findByUsername(username, this::loadDetachedByUsername).orElseThrow(() -> {
+            log.error("No user found by username: {}", username);
             return new UsernameNotFoundException(NOT_FOUND_BY_USERNAME + username);
         });
 
         validateLoginAttempt(user);
-        user.setLastLoginDateDisplay(user.getLastLoginDate());
-        user.setLastLoginDate(new Date());
-        userRepository.save(user);
+        loginTimestampRecorder.recordLogin(user);
 
         UserPrincipal userPrincipal = new UserPrincipal(user);
-        log.info(USER_WAS_FOUND + username);
+        log.debug("Returning found user by username: {}", username);
         return userPrincipal;
     }
 
@@ -74,6 +86,8 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         if (user.isNotLocked()) {
             if (attemptService.hasExceededMaxAttempts(user.getUsername())) {
                 user.setNotLocked(false);
+                userRepository.updateNotLocked(user.getId(), false);
+                userCache.invalidate(user.getId());
             } else {
                 user.setNotLocked(true);
             }
@@ -83,9 +97,10 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     }
 
     @Override
+    @Timed(USER_SERVICE_TIMER)
     @Transactional
     public User register(String firstName, String lastName, String username, String email)
-            throws UserNotFoundException, UsernameExistException, EmailExistException, EmailSendException {
+            throws UserNotFoundException, UsernameExistException, EmailExistException {
         validateNewUsernameAndEmail(StringUtils.EMPTY, username, email);
         String password = generatePassword();
         User user = User.builder()
@@ -99,18 +114,17 @@ public class UserServiceImpl implements UserService, UserDetailsService {
                 .isActive(true)
                 .isNotLocked(true)
                 .role(Role.ROLE_USER.name())
-                .authorities(Role.ROLE_USER.getAuthorities())
                 .profileImageUrl(getTemporaryProfileImg(username)).build();
 
         userRepository.save(user);
-        log.info("New user password: " + password);
-        emailService.sendNewPasswordEmail(password, email);
+        emailService.queueNewPasswordEmail(password, email);
         return user;
     }
 
     @Override
+    @Timed(USER_SERVICE_TIMER)
     public User addNewUser(AddNewUserDto dto)
-            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException {
+            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException, ImageProcessingBusyException {
         validateNewUsernameAndEmail(EMPTY, dto.getUsername(), dto.getEmail());
 
         String password = generatePassword();
@@ -123,52 +137,97 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     }
 
     @Override
+    @Timed(USER_SERVICE_TIMER)
     public User updateUser(UpdateUserDto dto)
-            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException {
+            throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException, ImageProcessingBusyException {
         User currentUser = updateUserGetUpdateUser(dto);
         userRepository.save(currentUser);
+        userCache.invalidate(currentUser.getId());
 
         saveProfileImage(currentUser, dto.getProfileImage());
         return currentUser;
     }
 
     @Override
+    @Timed(USER_SERVICE_TIMER)
     public void deleteUser(String username) throws IOException {
         User user = findByUsername(username).orElseThrow(() -> new UsernameNotFoundException("User not found"));
         Path userFolder = Paths.get(USER_FOLDER + user.getUsername()).toAbsolutePath().normalize();
         FileUtils.deleteDirectory(new File(userFolder.toString()));
         userRepository.deleteById(user.getId());
+        userCache.invalidate(user.getId());
+        loginTimestampRecorder.forget(user.getId());
     }
 
     @Override
-    public void resetPassword(String email) throws EmailNotFoundException, EmailSendException {
+    @Timed(USER_SERVICE_TIMER)
+    public void resetPassword(String email) throws EmailNotFoundException {
         User user = userRepository.findUserByEmail(email).orElseThrow(() -> new EmailNotFoundException(NO_USER_FOUND_BY_EMAIL + email));
         String password = generatePassword();
         user.setPassword(encodePassword(password));
         userRepository.save(user);
-        emailService.sendNewPasswordEmail(password, user.getEmail());
+        userCache.invalidate(user.getId());
+        emailService.queueNewPasswordEmail(password, user.getEmail());
     }
 
     @Override
-    public User updateProfileImage(String username, MultipartFile profileImage) throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException {
+    @Timed(USER_SERVICE_TIMER)
+    public User updateProfileImage(String username, MultipartFile profileImage) throws UserNotFoundException, UsernameExistException, EmailExistException, IOException, NotAnImageFileException, ImageProcessingBusyException {
         User user = validateNewUsernameAndEmail(username, null, null);
         saveProfileImage(user, profileImage);
+        userCache.invalidate(user.getId());
         return user;
     }
 
     @Override
-    public List<User> getUsers() {
-        return userRepository.findAll();
+    @Timed(USER_SERVICE_TIMER)
+    public UserPage getUsersPage(Long afterId, Integer pageSize) {
+        int size = pageSize == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(pageSize, MAXIMUM_PAGE_SIZE));
+        List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(afterId == null ? 0L : afterId, PageRequest.of(0, size));
+        users.forEach(loginTimestampRecorder::applyPendingTimestamps);
+        Long nextCursor = users.size() < size ? null : users.get(users.size() - 1).getId();
+        return new UserPage(users, nextCursor);
     }
 
     @Override
+    @Timed(USER_SERVICE_TIMER)
+    public void forEachUser(Consumer<User> consumer) {
+        // streamed rows are hydrated after the query hints are reset, so the store mode is bypassed for the whole session
+        Object storeMode = entityManager.getProperties().get(JPA_SHARED_CACHE_STORE_MODE);
+        entityManager.setProperty(JPA_SHARED_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        try (Stream<User> users = userRepository.streamAllUsers()) {
+            users.forEach(user -> {
+                consumer.accept(loginTimestampRecorder.applyPendingTimestamps(user));
+                entityManager.detach(user);
+            });
+        } finally {
+            entityManager.setProperty(JPA_SHARED_CACHE_STORE_MODE, storeMode != null ? storeMode : CacheStoreMode.USE);
+        }
+    }
+
+    @Override
+    @Timed(USER_SERVICE_TIMER)
     public Optional<User> findByUsername(String username) {
-        return userRepository.findUserByUsername(username);
+        return userCache.findByUsername(username, this::loadDetachedByUsername).map(loginTimestampRecorder::applyPendingTimestamps);
     }
 
     @Override
+    @Timed(USER_SERVICE_TIMER)
     public Optional<User> findUserByEmail(String email) {
-        return userRepository.findUserByEmail(email);
+        return userCache.findByEmail(email, this::loadDetachedByEmail).map(loginTimestampRecorder::applyPendingTimestamps);
+    }
+
+    private Optional<User> loadDetachedByUsername(String username) {
+        return userRepository.findUserByUsername(username).map(this::detach);
+    }
+
+    private Optional<User> loadDetachedByEmail(String email) {
+        return userRepository.findUserByEmail(email).map(this::detach);
+    }
+
+    private User detach(User user) {
+        entityManager.detach(user);
+        return user;
     }
 
     private User addNewUserGetUserObject(AddNewUserDto dto) {
@@ -182,7 +241,6 @@ public class UserServiceImpl implements UserService, UserDetailsService {
                 .isActive(true)
                 .isNotLocked(true)
                 .role(getRoleEnumName(dto.getRole()).name())
-                .authorities(getRoleEnumName(dto.getRole()).getAuthorities())
                 .profileImageUrl(getTemporaryProfileImg(dto.getUsername())).build();
     }
 
@@ -194,27 +252,15 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         currentUser.setEmail(dto.getNewEmail());
         currentUser.setActive(dto.isActive());
         currentUser.setNotLocked(dto.isNonLocked());
-        currentUser.setAuthorities(getRoleEnumName(dto.getRole()).getAuthorities());
         currentUser.setRole(getRoleEnumName(dto.getRole()).name());
 
         return currentUser;
     }
 
-    private void saveProfileImage(User user, MultipartFile profileImage) throws IOException, NotAnImageFileException {
+    private void saveProfileImage(User user, MultipartFile profileImage)
+            throws IOException, NotAnImageFileException, ImageProcessingBusyException {
         if (profileImage != null) {
-            if (!Arrays.asList(IMAGE_JPEG_VALUE, IMAGE_PNG_VALUE, IMAGE_GIF_VALUE).contains(profileImage.getContentType())){
-                throw new NotAnImageFileException(profileImage.getOriginalFilename() + "is not an image file");
-            }
-            Path userFolder = Paths.get(USER_FOLDER + user.getUsername()).toAbsolutePath().normalize();
-            if (!Files.exists(userFolder)) {
-                Files.createDirectories(userFolder);
-                log.info(DIRECTORY_CREATED + userFolder);
-            }
-            Files.deleteIfExists(Paths.get(userFolder + user.getUsername() + DOT + JPG_EXTENSION));
-            Files.copy(profileImage.getInputStream(), userFolder.resolve(user.getUsername() + DOT + JPG_EXTENSION), REPLACE_EXISTING);
-            user.setProfileImageUrl(setProfileImageUrl(user.getUsername()));
-            userRepository.save(user);
-            log.info(FILE_SAVED_IN_FILE_SYSTEM + profileImage.getOriginalFilename());
+            profileImageProcessor.submit(user, profileImage, setProfileImageUrl(user.getUsername()));
         }
     }
 
@@ -248,29 +294,25 @@ public class UserServiceImpl implements UserService, UserDetailsService {
 
     private User validateNewUsernameAndEmail(String currentUsername, String newUsername, String newEmail)
             throws UserNotFoundException, UsernameExistException, EmailExistException {
-        Optional<User> userByNewUsername = findByUsername(newUsername);
-        Optional<User> userByNewEmail = findUserByEmail(newEmail);
-
+        User currentUser = null;
+        Long excludedId = NO_USER_ID;
         if (StringUtils.isNotBlank(currentUsername)) {
-            User currentUser = findByUsername(currentUsername)
+            currentUser = userRepository.findUserByUsername(currentUsername)
+                    .map(loginTimestampRecorder::applyPendingTimestamps)
                     .orElseThrow(() -> new UserNotFoundException(NOT_FOUND_BY_USERNAME + currentUsername));
-
-            if (userByNewUsername.isPresent() && !currentUser.getId().equals(userByNewUsername.get().getId())) {
-                throw new UsernameExistException(USER_ALREADY_EXIST);
-            }
-            if (userByNewEmail.isPresent() && !currentUser.getId().equals(userByNewEmail.get().getId())) {
-                throw new EmailExistException(EMAIL_ALREADY_EXIST);
-            }
+            excludedId = currentUser.getId();
+        }
+        if (newUsername == null && newEmail == null) {
             return currentUser;
+        }
 
-        } else {
-            if (userByNewUsername.isPresent()) {
-                throw new UsernameExistException(USER_ALREADY_EXIST);
-            }
-            if (userByNewEmail.isPresent()) {
-                throw new EmailExistException(EMAIL_ALREADY_EXIST);
-            }
-            return null;
+        UserIdentityConflict conflict = userRepository.findIdentityConflict(newUsername, newEmail, excludedId);
+        if (conflict.isUsernameTaken()) {
+            throw new UsernameExistException(USER_ALREADY_EXIST);
+        }
+        if (conflict.isEmailTaken()) {
+            throw new EmailExistException(EMAIL_ALREADY_EXIST);
         }
+        return currentUser;
     }
 }
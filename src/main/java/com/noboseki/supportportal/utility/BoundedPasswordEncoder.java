@@ -0,0 +1,137 @@
+package com.noboseki.supportportal.utility;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.noboseki.supportportal.exception.domain.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.noboseki.supportportal.constant.MetricsConstant.*;
+import static com.noboseki.supportportal.constant.SecurityConstant.PASSWORD_HASHING_BUSY;
+
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer waitTimer;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(@Qualifier("passwordEncoder") PasswordEncoder delegate,
+                                  @Value("${password-hashing.max-concurrency:4}") int maxConcurrency,
+                                  @Value("${password-hashing.queue-capacity:100}") int queueCapacity,
+                                  @Value("${password-hashing.timeout:5000}") long timeoutMillis,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("password-hashing-%d").setDaemon(true).build());
+        this.waitTimer = meterRegistry.timer(PASSWORD_HASHING_WAIT_TIMER);
+        this.hashTimer = meterRegistry.timer(PASSWORD_HASHING_TIMER);
+        this.rejectedCounter = meterRegistry.counter(PASSWORD_HASHING_REJECTED);
+        Gauge.builder(PASSWORD_HASHING_ACTIVE, executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder(PASSWORD_HASHING_QUEUED, executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<String> encodedPasswords = new ArrayList<>(rawPasswords.size());
+        int window = executor.getMaximumPoolSize();
+        for (int start = 0; start < rawPasswords.size(); start += window) {
+            List<Future<String>> results = new ArrayList<>(window);
+            try {
+                for (CharSequence rawPassword : rawPasswords.subList(start, Math.min(start + window, rawPasswords.size()))) {
+                    results.add(submit(() -> delegate.encode(rawPassword)));
+                }
+                for (Future<String> result : results) {
+                    encodedPasswords.add(await(result));
+                }
+            } catch (RuntimeException exception) {
+                results.forEach(result -> result.cancel(true));
+                executor.purge();
+                throw exception;
+            }
+        }
+        return encodedPasswords;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> hashing) {
+        return await(submit(hashing));
+    }
+
+    private <T> Future<T> submit(Callable<T> hashing) {
+        long submittedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    long hashNanos = System.nanoTime() - startedAt;
+                    waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                    hashTimer.record(hashNanos, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException(PASSWORD_HASHING_BUSY);
+        }
+    }
+
+    private <T> T await(Future<T> result) {
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            result.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException(PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException exception) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException(PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.noboseki.supportportal.utility;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
 import com.noboseki.supportportal.domain.UserPrincipal;
+import com.noboseki.supportportal.domain.VerifiedToken;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,27 +17,71 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
-import static com.auth0.jwt.algorithms.Algorithm.HMAC512;
 import static com.noboseki.supportportal.constant.SecurityConstant.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.stream;
 
 @Component
 public class JWTTokenProvider {
     @Value("${jwt.secret}")
     private String secret;
+    @Value("${jwt.previous-secret:}")
+    private String previousSecret;
+    private final AtomicReference<JwtSigningKeys> signingKeys = new AtomicReference<>();
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
+
+    public JWTTokenProvider() {
+        this.verifiedTokenCache = CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(EXPIRATION_TIME, TimeUnit.MILLISECONDS)
+                .maximumSize(VERIFIED_TOKEN_CACHE_MAXIMUM_SIZE)
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    public void initSigningKeys() {
+        signingKeys.set(JwtSigningKeys.of(secret, previousSecret));
+    }
+
+    public void rotateSecret(String newSecret) {
+        if (StringUtils.isBlank(newSecret)) {
+            throw new IllegalArgumentException(JWT_SECRET_REQUIRED);
+        }
+        signingKeys.updateAndGet(keys -> keys.rotate(newSecret));
+        verifiedTokenCache.invalidateAll();
+    }
 
     public String generateJwtToken(UserPrincipal userPrincipal) {
         String[] claims = getClaimsFromUser(userPrincipal);
         return JWT.create().withIssuer(GET_ARRAYS_LLC).withAudience(GET_ARRAYS_ADMINISTRATION)
                 .withIssuedAt(new Date()).withSubject(userPrincipal.getUsername())
                 .withArrayClaim(AUTHORITIES, claims).withExpiresAt(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .sign(HMAC512(secret.getBytes()));
+                .sign(signingKeys.get().getCurrentAlgorithm());
+    }
+
+    public VerifiedToken verifyToken(String token) {
+        String key = Hashing.sha256().hashString(token, UTF_8).toString();
+        VerifiedToken verifiedToken = verifiedTokenCache.getIfPresent(key);
+        if (verifiedToken == null || verifiedToken.isExpired()) {
+            verifiedTokenCache.invalidate(key);
+            verifiedToken = toVerifiedToken(signingKeys.get().verify(token));
+            verifiedTokenCache.put(key, verifiedToken);
+        }
+        return verifiedToken;
+    }
+
+    public CacheStats getVerifiedTokenCacheStats() {
+        return verifiedTokenCache.stats();
     }
 
     public List<GrantedAuthority> getAuthorities(String token) {
@@ -43,41 +90,36 @@ public class JWTTokenProvider {
     }
 
     public Authentication getAuthentication(String username, List<GrantedAuthority> authorities, HttpServletRequest request) {
-        UsernamePasswordAuthenticationToken userPasswordAuthToken = new
-                UsernamePasswordAuthenticationToken(username, null, authorities);
+        UsernamePasswordAuthenticationToken userPasswordAuthToken = getAuthentication(username, authorities);
         userPasswordAuthToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         return userPasswordAuthToken;
     }
 
+    public UsernamePasswordAuthenticationToken getAuthentication(String username, List<GrantedAuthority> authorities) {
+        return new UsernamePasswordAuthenticationToken(username, null, authorities);
+    }
+
     public boolean isTokenValid(String username, String token) {
-        JWTVerifier verifier = getJWTVerifier();
-        return StringUtils.isNotEmpty(username) && !isTokenExpired(verifier, token);
+        return StringUtils.isNotEmpty(username) && !isTokenExpired(token);
     }
 
     public String getSubject(String token) {
-        JWTVerifier verifier = getJWTVerifier();
-        return verifier.verify(token).getSubject();
+        return signingKeys.get().verify(token).getSubject();
     }
 
-    private boolean isTokenExpired(JWTVerifier verifier, String token) {
-        Date expiration = verifier.verify(token).getExpiresAt();
+    private boolean isTokenExpired(String token) {
+        Date expiration = signingKeys.get().verify(token).getExpiresAt();
         return expiration.before(new Date());
     }
 
     private String[] getClaimsFromToken(String token) {
-        JWTVerifier verifier = getJWTVerifier();
-        return verifier.verify(token).getClaim(AUTHORITIES).asArray(String.class);
+        return signingKeys.get().verify(token).getClaim(AUTHORITIES).asArray(String.class);
     }
 
-    private JWTVerifier getJWTVerifier() {
-        JWTVerifier verifier;
-        try {
-            Algorithm algorithm = HMAC512(secret);
-            verifier = JWT.require(algorithm).withIssuer(GET_ARRAYS_LLC).build();
-        }catch (JWTVerificationException exception) {
-            throw new JWTVerificationException(TOKEN_CANNOT_BE_VERIFIED);
-        }
-        return verifier;
+    private VerifiedToken toVerifiedToken(DecodedJWT decodedJWT) {
+        String[] claims = decodedJWT.getClaim(AUTHORITIES).asArray(String.class);
+        List<GrantedAuthority> authorities = stream(claims).map(SimpleGrantedAuthority::new).collect(Collectors.toList());
+        return new VerifiedToken(decodedJWT.getSubject(), authorities, decodedJWT.getExpiresAt());
     }
 
     private String[] getClaimsFromUser(UserPrincipal user) {
@@ -0,0 +1,48 @@
+package com.noboseki.supportportal.utility;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+import static com.auth0.jwt.algorithms.Algorithm.HMAC512;
+import static com.noboseki.supportportal.constant.SecurityConstant.GET_ARRAYS_LLC;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JwtSigningKeys {
+    private final Algorithm currentAlgorithm;
+    private final JWTVerifier currentVerifier;
+    private final JWTVerifier previousVerifier;
+
+    public static JwtSigningKeys of(String currentSecret, String previousSecret) {
+        Algorithm currentAlgorithm = HMAC512(currentSecret);
+        JWTVerifier previousVerifier = StringUtils.isNotEmpty(previousSecret) ? buildVerifier(HMAC512(previousSecret)) : null;
+        return new JwtSigningKeys(currentAlgorithm, buildVerifier(currentAlgorithm), previousVerifier);
+    }
+
+    public JwtSigningKeys rotate(String newSecret) {
+        Algorithm newAlgorithm = HMAC512(newSecret);
+        return new JwtSigningKeys(newAlgorithm, buildVerifier(newAlgorithm), currentVerifier);
+    }
+
+    public DecodedJWT verify(String token) {
+        try {
+            return currentVerifier.verify(token);
+        } catch (SignatureVerificationException exception) {
+            if (previousVerifier == null) {
+                throw exception;
+            }
+            return previousVerifier.verify(token);
+        }
+    }
+
+    private static JWTVerifier buildVerifier(Algorithm algorithm) {
+        return JWT.require(algorithm).withIssuer(GET_ARRAYS_LLC).build();
+    }
+}
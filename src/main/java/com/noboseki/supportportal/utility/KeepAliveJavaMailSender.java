@@ -0,0 +1,131 @@
+package com.noboseki.supportportal.utility;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.annotation.PreDestroy;
+import javax.mail.Address;
+import javax.mail.AuthenticationFailedException;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+public class KeepAliveJavaMailSender extends JavaMailSenderImpl {
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+    private final long maxIdleMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Transport transport;
+    private long lastUsedMillis;
+
+    public KeepAliveJavaMailSender(long maxIdleMillis) {
+        this.maxIdleMillis = maxIdleMillis;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                try {
+                    sendMessage(mimeMessages[i]);
+                } catch (AuthenticationFailedException exception) {
+                    closeTransport();
+                    if (i == 0) {
+                        throw new MailAuthenticationException(exception);
+                    }
+                    for (int unsent = i; unsent < mimeMessages.length; unsent++) {
+                        failedMessages.put(originalMessages != null ? originalMessages[unsent] : mimeMessages[unsent], exception);
+                    }
+                    break;
+                } catch (MessagingException exception) {
+                    failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessages[i], exception);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mail-transport.max-idle:30000}")
+    public void closeIdleTransport() {
+        lock.lock();
+        try {
+            if (transport != null && System.currentTimeMillis() - lastUsedMillis > maxIdleMillis) {
+                closeTransport();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            closeTransport();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sendMessage(MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+        Address[] addresses = mimeMessage.getAllRecipients();
+        Address[] recipients = addresses != null ? addresses : new Address[0];
+        Transport current = currentTransport();
+        try {
+            current.sendMessage(mimeMessage, recipients);
+        } catch (MessagingException exception) {
+            if (current.isConnected()) {
+                throw exception;
+            }
+            log.debug("Mail transport went stale, reconnecting");
+            closeTransport();
+            currentTransport().sendMessage(mimeMessage, recipients);
+        }
+        lastUsedMillis = System.currentTimeMillis();
+    }
+
+    private Transport currentTransport() throws MessagingException {
+        if (transport != null && System.currentTimeMillis() - lastUsedMillis > maxIdleMillis) {
+            closeTransport();
+        }
+        if (transport == null) {
+            transport = connectTransport();
+            lastUsedMillis = System.currentTimeMillis();
+        }
+        return transport;
+    }
+
+    private void closeTransport() {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException exception) {
+            log.debug("Could not close mail transport", exception);
+        } finally {
+            transport = null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.noboseki.supportportal.utility;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class QueryCountingStatementInspector implements StatementInspector {
+    private final LongAdder queries = new LongAdder();
+    private final ThreadLocal<AtomicLong> requestQueries = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        queries.increment();
+        AtomicLong counter = requestQueries.get();
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public long getQueryCount() {
+        return queries.sum();
+    }
+
+    public void startCounting(AtomicLong counter) {
+        requestQueries.set(counter);
+    }
+
+    public void stopCounting() {
+        requestQueries.remove();
+    }
+}
@@ -0,0 +1,27 @@
+package com.noboseki.supportportal.utility;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Component
+public class SqlTraceStatementInspector implements StatementInspector {
+    private final double sampleRate;
+
+    public SqlTraceStatementInspector(@Value("${sql-trace.sample-rate:0}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (sampleRate > 0 && log.isDebugEnabled()
+                && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            log.debug("SQL: {}", sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,63 @@
+package com.noboseki.supportportal.utility;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static com.noboseki.supportportal.constant.VirtualThreadConstant.*;
+
+@Component
+public class WorkerThreads {
+    private final boolean virtual;
+
+    public WorkerThreads(@Value("${virtual-threads.enabled:false}") boolean virtual) {
+        if (virtual && !isVirtualThreadSupported()) {
+            throw new IllegalStateException(VIRTUAL_THREADS_UNSUPPORTED + System.getProperty("java.version"));
+        }
+        this.virtual = virtual;
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod(OF_VIRTUAL);
+            return true;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public ThreadFactory threadFactory(String namePrefix) {
+        if (!virtual) {
+            return new ThreadFactoryBuilder().setNameFormat(namePrefix + "%d").setDaemon(true).build();
+        }
+        try {
+            Class<?> builderType = Class.forName(THREAD_BUILDER);
+            Object builder = Thread.class.getMethod(OF_VIRTUAL).invoke(null);
+            builder = builderType.getMethod(NAME, String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderType.getMethod(FACTORY).invoke(builder);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(VIRTUAL_THREADS_UNSUPPORTED + System.getProperty("java.version"), exception);
+        }
+    }
+
+    public ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        ThreadFactory threadFactory = threadFactory(namePrefix);
+        if (!virtual) {
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod(NEW_THREAD_PER_TASK_EXECUTOR, ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(VIRTUAL_THREADS_UNSUPPORTED + System.getProperty("java.version"), exception);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.noboseki.supportportal.benchmark;
+
+import com.noboseki.supportportal.service.AvatarCache;
+import com.noboseki.supportportal.service.impl.GeneratedAvatarSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class AvatarCacheBenchmark {
+    private static final int USERNAME_COUNT = 100;
+
+    @Param({"memory", "disk"})
+    private String tier;
+
+    private GeneratedAvatarSource avatarSource;
+    private AvatarCache avatarCache;
+    private String[] usernames;
+
+    @Setup
+    public void setUp() throws IOException {
+        avatarSource = new GeneratedAvatarSource();
+        avatarCache = new AvatarCache(avatarSource, "memory".equals(tier) ? 16_777_216 : 0, 268_435_456, 8, 2000);
+        avatarCache.indexDiskCache();
+        usernames = new String[USERNAME_COUNT];
+        for (int i = 0; i < USERNAME_COUNT; i++) {
+            usernames[i] = "avatar-benchmark-" + i;
+            avatarCache.getAvatar(usernames[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[] cachedAvatar() throws IOException {
+        return avatarCache.getAvatar(randomUsername());
+    }
+
+    @Benchmark
+    public byte[] generatedAvatar() throws IOException {
+        return avatarSource.fetchAvatar(randomUsername());
+    }
+
+    private String randomUsername() {
+        return usernames[ThreadLocalRandom.current().nextInt(USERNAME_COUNT)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AvatarCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+}
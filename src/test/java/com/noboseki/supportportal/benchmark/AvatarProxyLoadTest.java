@@ -0,0 +1,165 @@
+package com.noboseki.supportportal.benchmark;
+
+import com.noboseki.supportportal.SupportPortalApplication;
+import com.noboseki.supportportal.utility.WorkerThreads;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives the avatar proxy endpoint with a fixed number of concurrent keep-alive connections.
+ * The upstream avatar service is a local stub with a fixed delay, so every request blocks a
+ * request thread on {@code URL.openStream}. The client runs in a separate JVM so the three
+ * socket sets (client, Tomcat, upstream) do not share one file-descriptor limit.
+ * <p>
+ * Usage: {@code AvatarProxyLoadTest <virtual-threads> [connections] [seconds] [upstream-delay-ms]}.
+ * Virtual threads need Java 21 or newer at runtime.
+ */
+public class AvatarProxyLoadTest {
+    private static final byte[] AVATAR = new byte[256];
+    private static final int MAX_LATENCY_MILLIS = 60_000;
+
+    public static void main(String[] args) throws Exception {
+        boolean virtual = args.length > 0 && Boolean.parseBoolean(args[0]);
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int upstreamDelayMillis = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+        System.setProperty("user.home", Paths.get("target", "loadtest").toAbsolutePath().toString());
+
+        HttpServer upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), connections);
+        ExecutorService upstreamExecutor = new WorkerThreads(WorkerThreads.isVirtualThreadSupported())
+                .newThreadPerTaskExecutor("upstream-");
+        upstream.setExecutor(upstreamExecutor);
+        upstream.createContext("/", exchange -> {
+            try {
+                Thread.sleep(upstreamDelayMillis);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, AVATAR.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(AVATAR);
+            }
+        });
+        upstream.start();
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SupportPortalApplication.class).run(
+                "--server.port=0",
+                "--server.tomcat.accept-count=" + connections,
+                "--server.tomcat.max-connections=" + (connections * 2),
+                "--virtual-threads.enabled=" + virtual,
+                "--avatar.base-url=http://127.0.0.1:" + upstream.getAddress().getPort() + "/",
+                "--avatar.max-concurrent-fetches=" + connections,
+                "--avatar.fetch-wait=" + MAX_LATENCY_MILLIS,
+                "--avatar.connect-timeout=" + MAX_LATENCY_MILLIS,
+                "--avatar.read-timeout=" + MAX_LATENCY_MILLIS,
+                "--avatar.memory-cache-bytes=0",
+                "--sql-trace.sample-rate=0",
+                "--management.metrics.export.prometheus.enabled=false",
+                "--logging.level.root=warn");
+        try {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            Process client = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-Dhttp.maxConnections=" + connections,
+                    "-cp", System.getProperty("java.class.path"),
+                    Client.class.getName(), "http://127.0.0.1:" + port + "/user/image/profile/",
+                    String.valueOf(connections), String.valueOf(seconds), String.valueOf(virtual))
+                    .inheritIO()
+                    .start();
+            client.waitFor();
+        } finally {
+            context.close();
+            upstream.stop(0);
+            upstreamExecutor.shutdownNow();
+        }
+    }
+
+    public static class Client {
+
+        public static void main(String[] args) throws Exception {
+            String baseUrl = args[0];
+            int connections = Integer.parseInt(args[1]);
+            int seconds = Integer.parseInt(args[2]);
+            LongAdder completed = new LongAdder();
+            LongAdder failed = new LongAdder();
+            AtomicLongArray latencies = new AtomicLongArray(MAX_LATENCY_MILLIS + 1);
+            ExecutorService workers = new WorkerThreads(WorkerThreads.isVirtualThreadSupported())
+                    .newThreadPerTaskExecutor("load-");
+            long startedAt = System.nanoTime();
+            long deadline = startedAt + TimeUnit.SECONDS.toNanos(seconds);
+            List<Future<?>> results = new ArrayList<>(connections);
+            for (int worker = 0; worker < connections; worker++) {
+                String prefix = baseUrl + "load-" + worker + "-";
+                results.add(workers.submit(() -> {
+                    byte[] buffer = new byte[8192];
+                    for (int request = 0; System.nanoTime() < deadline; request++) {
+                        long requestStartedAt = System.nanoTime();
+                        try {
+                            HttpURLConnection connection = (HttpURLConnection) new URL(prefix + request).openConnection();
+                            connection.setConnectTimeout(MAX_LATENCY_MILLIS);
+                            connection.setReadTimeout(MAX_LATENCY_MILLIS);
+                            if (connection.getResponseCode() != 200) {
+                                failed.increment();
+                                drain(connection.getErrorStream(), buffer);
+                                continue;
+                            }
+                            drain(connection.getInputStream(), buffer);
+                            completed.increment();
+                            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStartedAt);
+                            latencies.incrementAndGet((int) Math.min(millis, MAX_LATENCY_MILLIS));
+                        } catch (IOException exception) {
+                            failed.increment();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+            workers.shutdown();
+            System.out.printf("virtual-threads=%s connections=%d requests=%d errors=%d throughput=%.1f req/s p50=%d ms p99=%d ms%n",
+                    args[3], connections, completed.sum(), failed.sum(), completed.sum() / elapsedSeconds,
+                    percentile(latencies, completed.sum(), 0.50), percentile(latencies, completed.sum(), 0.99));
+        }
+
+        private static void drain(InputStream inputStream, byte[] buffer) throws IOException {
+            if (inputStream == null) {
+                return;
+            }
+            try (InputStream body = inputStream) {
+                while (body.read(buffer) > 0) {
+                    // keep-alive needs the body fully read
+                }
+            }
+        }
+
+        private static long percentile(AtomicLongArray latencies, long count, double percentile) {
+            long threshold = (long) Math.ceil(count * percentile);
+            long seen = 0;
+            for (int millis = 0; millis < latencies.length(); millis++) {
+                seen += latencies.get(millis);
+                if (seen >= threshold && seen > 0) {
+                    return millis;
+                }
+            }
+            return MAX_LATENCY_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.noboseki.supportportal.benchmark;
+
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.domain.UserPrincipal;
+import com.noboseki.supportportal.domain.VerifiedToken;
+import com.noboseki.supportportal.enumeration.Role;
+import com.noboseki.supportportal.utility.JWTTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthorizationBenchmark {
+    private static final String SECRET = "benchmark-secret";
+
+    private JWTTokenProvider tokenProvider;
+    private UserPrincipal userPrincipal;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JWTTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "secret", SECRET);
+        tokenProvider.initSigningKeys();
+        User user = User.builder()
+                .username("benchmark")
+                .isActive(true)
+                .isNotLocked(true)
+                .role(Role.ROLE_SUPER_ADMIN.name()).build();
+        userPrincipal = new UserPrincipal(user);
+        token = tokenProvider.generateJwtToken(userPrincipal);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateJwtToken(userPrincipal);
+    }
+
+    @Benchmark
+    public void uncachedFilterPath(Blackhole blackhole) {
+        String username = tokenProvider.getSubject(token);
+        blackhole.consume(tokenProvider.isTokenValid(username, token));
+        List<GrantedAuthority> authorities = tokenProvider.getAuthorities(token);
+        blackhole.consume(authorities);
+    }
+
+    @Benchmark
+    public void cachedFilterPath(Blackhole blackhole) {
+        VerifiedToken verifiedToken = tokenProvider.verifyToken(token);
+        blackhole.consume(verifiedToken.getSubject());
+        blackhole.consume(verifiedToken.isExpired());
+        blackhole.consume(verifiedToken.getAuthorities());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtAuthorizationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,58 @@
+package com.noboseki.supportportal.benchmark;
+
+import com.noboseki.supportportal.service.impl.LocalLoginAttemptService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoginAttemptBenchmark {
+
+    @Param({"1", "10000"})
+    private int usernameCount;
+
+    private LocalLoginAttemptService attemptService;
+    private String[] usernames;
+
+    @Setup
+    public void setUp() {
+        attemptService = new LocalLoginAttemptService(15, 100_000);
+        usernames = new String[usernameCount];
+        for (int i = 0; i < usernameCount; i++) {
+            usernames[i] = "user" + i;
+        }
+    }
+
+    @Benchmark
+    public void recordFailure() {
+        attemptService.addUserToLoginAttemptCache(randomUsername());
+    }
+
+    @Benchmark
+    public boolean checkAttempts() {
+        return attemptService.hasExceededMaxAttempts(randomUsername());
+    }
+
+    @Benchmark
+    public void recordSuccess() {
+        attemptService.evictUserFromLoginAttemptCache(randomUsername());
+    }
+
+    private String randomUsername() {
+        return usernames[ThreadLocalRandom.current().nextInt(usernameCount)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LoginAttemptBenchmark.class.getSimpleName()).build()).run();
+    }
+}
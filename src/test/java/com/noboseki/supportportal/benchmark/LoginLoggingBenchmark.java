@@ -0,0 +1,95 @@
+package com.noboseki.supportportal.benchmark;
+
+import com.noboseki.supportportal.SupportPortalApplication;
+import com.noboseki.supportportal.service.impl.UserServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoginLoggingBenchmark {
+    private static final String INSERT_USER =
+            "INSERT INTO user (id, user_id, username, email, is_active, is_not_locked) VALUES (?, ?, ?, ?, true, true)";
+    private static final Path CONSOLE_LOG = Paths.get("target", "benchmark", "login-console.log");
+
+    @Param({"10000"})
+    private int userCount;
+
+    @Param({"show-sql", "prod"})
+    private String logging;
+
+    private ConfigurableApplicationContext context;
+    private UserDetailsService userDetailsService;
+    private PrintStream originalOut;
+    private PrintStream console;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Files.createDirectories(CONSOLE_LOG.getParent());
+        originalOut = System.out;
+        console = new PrintStream(new BufferedOutputStream(new FileOutputStream(CONSOLE_LOG.toFile())), true);
+        System.setOut(console);
+        List<String> args = new ArrayList<>();
+        args.add("--spring.datasource.url=jdbc:h2:mem:loginlogging");
+        args.add("--spring.jpa.properties.hibernate.cache.use_second_level_cache=false");
+        args.add("--spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        args.add("--user-cache.maximum-size=0");
+        if ("prod".equals(logging)) {
+            args.add("--spring.profiles.active=prod");
+        } else {
+            args.add("--spring.jpa.show-sql=true");
+            args.add("--sql-trace.sample-rate=0");
+            args.add("--logging.level.com.noboseki.supportportal.service.impl=debug");
+        }
+        context = new SpringApplicationBuilder(SupportPortalApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(new String[0]));
+        userDetailsService = context.getBean(UserServiceImpl.class);
+        List<Object[]> batch = new ArrayList<>(userCount);
+        for (long id = 1; id <= userCount; id++) {
+            batch.add(new Object[]{id, String.valueOf(id), "user" + id, "user" + id + "@example.com"});
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(INSERT_USER, batch);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        System.setOut(originalOut);
+        console.close();
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername("user" + ThreadLocalRandom.current().nextInt(1, userCount + 1));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LoginLoggingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,116 @@
+package com.noboseki.supportportal.benchmark;
+
+import com.noboseki.supportportal.SupportPortalApplication;
+import com.noboseki.supportportal.enumeration.UserDataFormat;
+import com.noboseki.supportportal.service.UserExportService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx128m")
+public class UserExportBenchmark {
+    private static final String INSERT_USER = "INSERT INTO user (id, user_id, username, email, first_name, last_name, role, "
+            + "is_active, is_not_locked) VALUES (?, ?, ?, ?, 'First', 'Last', 'ROLE_USER', true, true)";
+    private static final int BATCH_SIZE = 1_000;
+    private static final long HEAP_SAMPLE_BYTES = 4L * 1024 * 1024;
+    private static final long MEGABYTE = 1024 * 1024;
+
+    @Param({"10000", "100000", "1000000"})
+    private int userCount;
+
+    @Param({"CSV", "NDJSON"})
+    private UserDataFormat format;
+
+    private ConfigurableApplicationContext context;
+    private UserExportService userExportService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SupportPortalApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false",
+                        "--spring.datasource.url=jdbc:h2:file:./target/benchmark/export;DB_CLOSE_ON_EXIT=FALSE");
+        userExportService = context.getBean(UserExportService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.execute("TRUNCATE TABLE user");
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= userCount; id++) {
+            batch.add(new Object[]{id, String.valueOf(id), "user" + id, "user" + id + "@example.com"});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_USER, batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER, batch);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long export(HeapCounters counters) throws IOException {
+        HeapSamplingOutputStream outputStream = new HeapSamplingOutputStream();
+        long exported = userExportService.exportUsers(outputStream, format);
+        outputStream.sampleHeap();
+        counters.liveHeapMegabytes = Math.max(counters.liveHeapMegabytes, outputStream.maxLiveHeapBytes / MEGABYTE);
+        return exported;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+        public long liveHeapMegabytes;
+    }
+
+    private static class HeapSamplingOutputStream extends OutputStream {
+        private long written;
+        private long nextSample = HEAP_SAMPLE_BYTES;
+        private long maxLiveHeapBytes;
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            count(length);
+        }
+
+        private void count(int length) {
+            written += length;
+            if (written >= nextSample) {
+                nextSample += HEAP_SAMPLE_BYTES;
+                sampleHeap();
+            }
+        }
+
+        private void sampleHeap() {
+            System.gc();
+            Runtime runtime = Runtime.getRuntime();
+            maxLiveHeapBytes = Math.max(maxLiveHeapBytes, runtime.totalMemory() - runtime.freeMemory());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UserExportBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,108 @@
+package com.noboseki.supportportal.benchmark;
+
+import com.noboseki.supportportal.SupportPortalApplication;
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.repository.UserRepository;
+import com.noboseki.supportportal.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.noboseki.supportportal.constant.UserServiceImplConstant.NO_USER_ID;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserLookupBenchmark {
+    private static final String INSERT_USER =
+            "INSERT INTO user (id, user_id, username, email, is_active, is_not_locked) VALUES (?, ?, ?, ?, true, true)";
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"100000"})
+    private int userCount;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SupportPortalApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--spring.datasource.url=jdbc:h2:mem:benchmark");
+        userRepository = context.getBean(UserRepository.class);
+        userService = context.getBean(UserService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        if (!indexed) {
+            jdbcTemplate.execute("ALTER TABLE user DROP CONSTRAINT " + User.USERNAME_UNIQUE_CONSTRAINT);
+            jdbcTemplate.execute("ALTER TABLE user DROP CONSTRAINT " + User.EMAIL_UNIQUE_CONSTRAINT);
+        }
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= userCount; id++) {
+            batch.add(new Object[]{id, String.valueOf(id), username(id), email(id)});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_USER, batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER, batch);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void loadFullEntities(Blackhole blackhole) {
+        long id = randomId();
+        blackhole.consume(userRepository.findUserByUsername(username(id)));
+        blackhole.consume(userRepository.findUserByEmail(email(id)));
+    }
+
+    @Benchmark
+    public void findIdentityConflict(Blackhole blackhole) {
+        long id = randomId();
+        blackhole.consume(userRepository.findIdentityConflict(username(id), email(id), NO_USER_ID).isUsernameTaken());
+    }
+
+    @Benchmark
+    public void cachedServiceLookup(Blackhole blackhole) {
+        long id = randomId();
+        blackhole.consume(userService.findByUsername(username(id)));
+        blackhole.consume(userService.findUserByEmail(email(id)));
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, userCount + 1);
+    }
+
+    private static String username(long id) {
+        return "user" + id;
+    }
+
+    private static String email(long id) {
+        return "user" + id + "@example.com";
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UserLookupBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,53 @@
+package com.noboseki.supportportal.benchmark;
+
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.domain.UserPrincipal;
+import com.noboseki.supportportal.enumeration.Role;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserPrincipalBenchmark {
+
+    @Param({"ROLE_USER", "ROLE_SUPER_ADMIN"})
+    private Role role;
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .username("benchmark")
+                .password("{bcrypt}hash")
+                .isActive(true)
+                .isNotLocked(true)
+                .role(role.name()).build();
+    }
+
+    @Benchmark
+    public void constructPrincipal(Blackhole blackhole) {
+        UserPrincipal userPrincipal = new UserPrincipal(user);
+        blackhole.consume(userPrincipal.getAuthorities());
+        blackhole.consume(userPrincipal.isAccountNonLocked());
+        blackhole.consume(userPrincipal.isEnabled());
+    }
+
+    @Benchmark
+    public String[] userAuthorities() {
+        return user.getAuthorities();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UserPrincipalBenchmark.class.getSimpleName()).build()).run();
+    }
+}
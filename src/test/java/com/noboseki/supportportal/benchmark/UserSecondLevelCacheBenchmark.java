@@ -0,0 +1,96 @@
+package com.noboseki.supportportal.benchmark;
+
+import com.noboseki.supportportal.SupportPortalApplication;
+import com.noboseki.supportportal.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserSecondLevelCacheBenchmark {
+    private static final String INSERT_USER =
+            "INSERT INTO user (id, user_id, username, email, is_active, is_not_locked) VALUES (?, ?, ?, ?, true, true)";
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"10000"})
+    private int userCount;
+
+    @Param({"1000"})
+    private int hotUsers;
+
+    @Param({"true", "false"})
+    private boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private Statistics statistics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SupportPortalApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false",
+                        "--spring.datasource.url=jdbc:h2:mem:l2benchmark",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache,
+                        "--hibernate-cache.statistics=true");
+        userRepository = context.getBean(UserRepository.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= userCount; id++) {
+            batch.add(new Object[]{id, String.valueOf(id), "user" + id, "user" + id + "@example.com"});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_USER, batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER, batch);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void findByUsername(RoundTrips roundTrips, Blackhole blackhole) {
+        long before = statistics.getPrepareStatementCount();
+        blackhole.consume(userRepository.findUserByUsername("user" + ThreadLocalRandom.current().nextInt(1, hotUsers + 1)));
+        roundTrips.statements += statistics.getPrepareStatementCount() - before;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RoundTrips {
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UserSecondLevelCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,35 @@
+package com.noboseki.supportportal.configuration;
+
+import com.noboseki.supportportal.utility.WorkerThreads;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SpringBootTest(properties = {
+        "virtual-threads.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:virtualthreads"})
+class VirtualThreadConfigurationTest {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @BeforeAll
+    static void requireVirtualThreads() {
+        assumeTrue(WorkerThreads.isVirtualThreadSupported());
+    }
+
+    @Test
+    void mvcAsyncExecutorRunsOnVirtualThreads() throws Exception {
+        String thread = applicationTaskExecutor.submit(() -> Thread.currentThread().toString()).get();
+
+        assertTrue(thread.startsWith("VirtualThread"), thread);
+        assertTrue(thread.contains("task-virtual-"), thread);
+    }
+}
@@ -0,0 +1,118 @@
+package com.noboseki.supportportal.controller;
+
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.domain.UserPrincipal;
+import com.noboseki.supportportal.enumeration.Role;
+import com.noboseki.supportportal.repository.UserRepository;
+import com.noboseki.supportportal.utility.JWTTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.net.URI;
+import java.util.Date;
+
+import static com.noboseki.supportportal.constant.SecurityConstant.TOKEN_PREFIX;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.IMAGE_JPEG;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(properties = {
+        "reactive.port=0",
+        "avatar.source=generated",
+        "spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive"})
+class ReactiveUserHandlerTest {
+    private static final int USER_COUNT = 3;
+
+    @Autowired
+    @Qualifier("reactiveWebServer")
+    private WebServer reactiveWebServer;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JWTTokenProvider jwtTokenProvider;
+    private WebTestClient webTestClient;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        User user = null;
+        for (int i = 0; i < USER_COUNT; i++) {
+            user = userRepository.save(User.builder()
+                    .userId(String.valueOf(i))
+                    .username("reactive-" + i)
+                    .email("reactive-" + i + "@example.com")
+                    .password("secret")
+                    .joinDate(new Date())
+                    .isActive(true)
+                    .isNotLocked(true)
+                    .role(Role.ROLE_USER.name()).build());
+        }
+        webTestClient = WebTestClient.bindToServer().baseUrl("http://localhost:" + reactiveWebServer.getPort()).build();
+        token = jwtTokenProvider.generateJwtToken(new UserPrincipal(user));
+    }
+
+    @Test
+    void userIsReadThroughR2dbcWithAValidToken() {
+        webTestClient.get().uri("/user/find/reactive-1")
+                .header(AUTHORIZATION, TOKEN_PREFIX + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.email").isEqualTo("reactive-1@example.com")
+                .jsonPath("$.password").doesNotExist();
+    }
+
+    @Test
+    void listIsStreamedInIdOrder() {
+        webTestClient.get().uri("/user/list")
+                .header(AUTHORIZATION, TOKEN_PREFIX + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(USER_COUNT)
+                .jsonPath("$[2].username").isEqualTo("reactive-2");
+    }
+
+    @Test
+    void requestWithoutTokenIsForbidden() {
+        webTestClient.get().uri("/user/find/reactive-1")
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("$.httpStatusCode").isEqualTo(403);
+    }
+
+    @Test
+    void unknownUserIsABadRequest() {
+        webTestClient.get().uri("/user/find/missing")
+                .header(AUTHORIZATION, TOKEN_PREFIX + token)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void avatarIsPublic() {
+        webTestClient.get().uri("/user/image/profile/reactive-0")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(IMAGE_JPEG);
+    }
+
+    @Test
+    void imagePathOutsideTheUserFolderIsRejected() {
+        webTestClient.get().uri(URI.create("http://localhost:" + reactiveWebServer.getPort() + "/user/image/..%2F..%2F..%2Fetc/passwd"))
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get().uri(URI.create("http://localhost:" + reactiveWebServer.getPort() + "/user/image/reactive-0/..%2F..%2Fsecret"))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,135 @@
+package com.noboseki.supportportal.controller;
+
+import com.google.common.io.ByteStreams;
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.enumeration.Role;
+import com.noboseki.supportportal.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.util.Date;
+import java.util.zip.GZIPInputStream;
+
+import static com.noboseki.supportportal.constant.MetricsConstant.REQUEST_QUERIES;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.VARY;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:export")
+class UserControllerExportTest {
+    private static final int USER_COUNT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        for (int i = 0; i < USER_COUNT; i++) {
+            userRepository.save(User.builder()
+                    .userId(String.valueOf(i))
+                    .username("export-" + i)
+                    .email("export-" + i + "@example.com")
+                    .password("secret")
+                    .joinDate(new Date())
+                    .isActive(true)
+                    .isNotLocked(true)
+                    .role(Role.ROLE_USER.name()).build());
+        }
+    }
+
+    @Test
+    @WithMockUser
+    void csvExportIsStreamedWithAHeaderRow() throws Exception {
+        String[] lines = export("csv", false).split("\n");
+
+        assertEquals(USER_COUNT + 1, lines.length);
+        assertTrue(lines[0].startsWith("userId,firstName,lastName,username,email,role,active,notLocked"));
+        assertTrue(lines[1].contains("export-0@example.com"));
+        assertFalse(lines[1].contains("secret"));
+    }
+
+    @Test
+    @WithMockUser
+    void ndjsonExportIsGzippedWhenAccepted() throws Exception {
+        String[] lines = export("ndjson", true).split("\n");
+
+        assertEquals(USER_COUNT, lines.length);
+        assertTrue(lines[2].contains("\"username\":\"export-2\""));
+    }
+
+    @Test
+    @WithMockUser
+    void gzipIsSkippedWhenRefusedByQuality() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/user/export").param("format", "csv")
+                .header(ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(VARY, hasItem(ACCEPT_ENCODING)))
+                .andExpect(header().doesNotExist(CONTENT_ENCODING))
+                .andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().startsWith("userId,"));
+    }
+
+    @Test
+    @WithMockUser
+    void queriesRunDuringTheAsyncExportAreCounted() throws Exception {
+        export("csv", false);
+
+        DistributionSummary queries = meterRegistry.find(REQUEST_QUERIES).tag("uri", "/user/export").summary();
+        assertNotNull(queries);
+        assertTrue(queries.totalAmount() > 0);
+    }
+
+    @Test
+    @WithMockUser
+    void unknownFormatIsABadRequest() throws Exception {
+        mockMvc.perform(get("/user/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported format: xml. Supported formats: csv, ndjson"));
+    }
+
+    private String export(String format, boolean gzip) throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/user/export").param("format", format)
+                .header(ACCEPT_ENCODING, gzip ? "gzip, deflate" : "identity"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+        byte[] body = result.getResponse().getContentAsByteArray();
+        if (gzip) {
+            assertEquals("gzip", result.getResponse().getHeader(CONTENT_ENCODING));
+            body = ByteStreams.toByteArray(new GZIPInputStream(new ByteArrayInputStream(body)));
+        }
+        return new String(body, UTF_8);
+    }
+}
@@ -0,0 +1,119 @@
+package com.noboseki.supportportal.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.noboseki.supportportal.constant.UserImportConstant.TEXT_CSV_VALUE;
+import static com.noboseki.supportportal.constant.UserServiceImplConstant.EMAIL_ALREADY_EXIST;
+import static com.noboseki.supportportal.constant.UserServiceImplConstant.USER_ALREADY_EXIST;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:import",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "password-hashing.bcrypt-strength=4",
+        "user-import.batch-size=100"})
+class UserControllerImportTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @WithMockUser(authorities = "user:create")
+    void csvImportInsertsInJdbcBatchesAndReportsRowErrors() throws Exception {
+        StringBuilder csv = new StringBuilder("firstName,lastName,username,email,role\n");
+        for (int i = 0; i < 250; i++) {
+            csv.append("First,Last,csv-").append(i).append(",csv-").append(i).append("@example.com,ROLE_USER\n");
+        }
+        csv.append("First,Last,csv-0,other@example.com,ROLE_USER\n")
+                .append("First,Last,csv-other,csv-1@example.com,ROLE_USER\n")
+                .append("First,Last,csv-role,csv-role@example.com,ROLE_KING\n")
+                .append("First,Last,,blank@example.com,ROLE_USER\n");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<JsonNode> progress = importUsers(TEXT_CSV_VALUE, csv.toString());
+
+        assertEquals(3, progress.size());
+        JsonNode summary = progress.get(progress.size() - 1);
+        assertTrue(summary.get("complete").asBoolean());
+        assertEquals(254, summary.get("processed").asLong());
+        assertEquals(250, summary.get("imported").asLong());
+        assertEquals(4, summary.get("failed").asLong());
+        assertEquals(USER_ALREADY_EXIST, summary.get("errors").get(0).get("message").asText());
+        assertEquals(251, summary.get("errors").get(0).get("row").asLong());
+        assertEquals(EMAIL_ALREADY_EXIST, summary.get("errors").get(1).get("message").asText());
+        assertEquals(250, userRepository.findExistingUsernames(usernames("csv-", 250)).size());
+        assertTrue(statistics.getPrepareStatementCount() < 50,
+                "expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    @WithMockUser(authorities = "user:create")
+    void ndjsonImportSkipsMalformedRowsAndExistingUsers() throws Exception {
+        userRepository.save(User.builder().userId("1").username("ndjson-existing").email("ndjson-existing@example.com").build());
+        String ndjson = "{\"username\":\"ndjson-1\",\"email\":\"ndjson-1@example.com\"}\n"
+                + "{\"username\":{\"nested\":true},\"email\":\"ndjson-2@example.com\"}\n"
+                + "{\"username\":\"ndjson-existing\",\"email\":\"ndjson-3@example.com\"}\n"
+                + "{\"username\":\"ndjson-4\",\"email\":\"ndjson-4@example.com\",\"role\":\"role_admin\"}\n";
+
+        List<JsonNode> progress = importUsers(APPLICATION_NDJSON.toString(), ndjson);
+
+        JsonNode summary = progress.get(progress.size() - 1);
+        assertEquals(4, summary.get("processed").asLong());
+        assertEquals(2, summary.get("imported").asLong());
+        assertEquals(2, summary.get("failed").asLong());
+        assertEquals("ROLE_ADMIN", userRepository.findUserByUsername("ndjson-4").get().getRole());
+    }
+
+    @Test
+    @WithMockUser(authorities = "user:read")
+    void importRequiresCreateAuthority() throws Exception {
+        mockMvc.perform(post("/user/import").contentType(TEXT_CSV_VALUE).content("username,email\n"))
+                .andExpect(status().isForbidden());
+    }
+
+    private List<JsonNode> importUsers(String contentType, String body) throws Exception {
+        String response = mockMvc.perform(post("/user/import").contentType(contentType).content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private List<String> usernames(String prefix, int count) {
+        List<String> usernames = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            usernames.add(prefix + i);
+        }
+        return usernames;
+    }
+}
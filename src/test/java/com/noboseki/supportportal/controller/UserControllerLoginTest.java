@@ -0,0 +1,72 @@
+package com.noboseki.supportportal.controller;
+
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.enumeration.Role;
+import com.noboseki.supportportal.repository.UserRepository;
+import com.noboseki.supportportal.utility.BoundedPasswordEncoder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Date;
+
+import static com.noboseki.supportportal.constant.SecurityConstant.JWT_TOKEN_HEADER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserControllerLoginTest {
+    private static final String USERNAME = "login-test";
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BoundedPasswordEncoder passwordEncoder;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        if (!userRepository.findUserByUsername(USERNAME).isPresent()) {
+            userRepository.save(User.builder()
+                    .userId("1234567890")
+                    .username(USERNAME)
+                    .email(USERNAME + "@example.com")
+                    .password(passwordEncoder.encode(PASSWORD))
+                    .joinDate(new Date())
+                    .isActive(true)
+                    .isNotLocked(true)
+                    .role(Role.ROLE_USER.name()).build());
+        }
+    }
+
+    @Test
+    void loginHitsTheDatabaseOnce() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/user/login")
+                .contentType(APPLICATION_JSON)
+                .content("{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(JWT_TOKEN_HEADER))
+                .andExpect(jsonPath("$.username").value(USERNAME));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+    }
+}
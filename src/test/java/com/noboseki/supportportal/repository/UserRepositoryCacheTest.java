@@ -0,0 +1,78 @@
+package com.noboseki.supportportal.repository;
+
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.enumeration.Role;
+import com.noboseki.supportportal.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Date;
+
+import static com.noboseki.supportportal.enumeration.ProfileImageStatus.READY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:usercache")
+class UserRepositoryCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserService userService;
+    private User updated;
+    private User untouched;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+        updated = userRepository.save(user("cache-updated"));
+        untouched = userRepository.save(user("cache-untouched"));
+        userRepository.findById(updated.getId());
+        userRepository.findById(untouched.getId());
+    }
+
+    @Test
+    void singleRowUpdatesKeepOtherUsersCached() {
+        userRepository.updateNotLocked(updated.getId(), false);
+        userRepository.updateProfileImage(updated.getId(), "/user/image/cache-updated/cache-updated.jpg", READY);
+        assertEquals(1, userRepository.updatePassword(updated.getId(), "upgraded", "secret"));
+        assertEquals(0, userRepository.updatePassword(updated.getId(), "stale", "secret"));
+
+        assertTrue(entityManagerFactory.getCache().contains(User.class, untouched.getId()));
+        User reloaded = userRepository.findById(updated.getId()).orElseThrow(IllegalStateException::new);
+        assertFalse(reloaded.isNotLocked());
+        assertEquals(READY, reloaded.getProfileImageStatus());
+        assertEquals("upgraded", reloaded.getPassword());
+    }
+
+    @Test
+    void bulkReadsDoNotFillTheUserRegion() {
+        entityManagerFactory.getCache().evictAll();
+
+        userRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 10));
+        userService.forEachUser(user -> { });
+
+        assertFalse(entityManagerFactory.getCache().contains(User.class, updated.getId()));
+        assertFalse(entityManagerFactory.getCache().contains(User.class, untouched.getId()));
+    }
+
+    private User user(String username) {
+        return User.builder()
+                .userId(username)
+                .username(username)
+                .email(username + "@example.com")
+                .password("secret")
+                .joinDate(new Date())
+                .isActive(true)
+                .isNotLocked(true)
+                .role(Role.ROLE_USER.name()).build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.noboseki.supportportal.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.noboseki.supportportal.domain.OutboxEmail;
+import com.noboseki.supportportal.repository.OutboxEmailRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.List;
+
+import static com.noboseki.supportportal.enumeration.OutboxEmailStatus.FAILED;
+import static com.noboseki.supportportal.enumeration.OutboxEmailStatus.PENDING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox",
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.username=",
+        "spring.mail.password=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "spring.mail.properties.mail.smtp.starttls.required=false",
+        "email-outbox.poll-interval=3600000",
+        "email-outbox.batch-size=2",
+        "email-outbox.max-attempts=2"})
+class EmailOutboxDispatcherTest {
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxEmailRepository.deleteAll();
+    }
+
+    @Test
+    void registrationEmailIsDeliveredByTheDispatcher() throws Exception {
+        userService.register("Outbox", "Delivered", "outbox-delivered", "outbox-delivered@example.com");
+        assertEquals(1, outboxEmailRepository.count());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+
+        assertEquals(1, dispatcher.dispatch());
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(1, received.length);
+        assertEquals("outbox-delivered@example.com", received[0].getAllRecipients()[0].toString());
+        assertEquals(0, outboxEmailRepository.count());
+    }
+
+    @Test
+    void queuedEmailsAreDrainedInBatchesAcrossReconnects() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            userService.register("Outbox", "Batched", "outbox-batched-" + i, "outbox-batched-" + i + "@example.com");
+        }
+        assertEquals(5, dispatcher.dispatch());
+
+        greenMail.reset();
+        userService.resetPassword("outbox-batched-0@example.com");
+        assertEquals(1, dispatcher.dispatch());
+
+        assertEquals(1, greenMail.getReceivedMessages().length);
+        assertEquals(0, outboxEmailRepository.count());
+    }
+
+    @Test
+    void failedDeliveryIsRetriedLater() throws Exception {
+        greenMail.stop();
+        userService.register("Outbox", "Retried", "outbox-retried", "outbox-retried@example.com");
+
+        assertEquals(0, dispatcher.dispatch());
+
+        List<OutboxEmail> pending = outboxEmailRepository.findAll();
+        assertEquals(1, pending.size());
+        assertEquals(PENDING, pending.get(0).getStatus());
+        assertEquals(1, pending.get(0).getAttempts());
+        assertTrue(pending.get(0).getNextAttemptDate().after(new Date()));
+    }
+
+    @Test
+    void passwordIsClearedWhenDeliveryIsGivenUp() throws Exception {
+        greenMail.stop();
+        userService.register("Outbox", "Abandoned", "outbox-abandoned", "outbox-abandoned@example.com");
+
+        dispatcher.dispatch();
+        OutboxEmail retry = outboxEmailRepository.findAll().get(0);
+        retry.setNextAttemptDate(new Date());
+        outboxEmailRepository.save(retry);
+        dispatcher.dispatch();
+
+        List<OutboxEmail> failed = outboxEmailRepository.findAll();
+        assertEquals(1, failed.size());
+        assertEquals(FAILED, failed.get(0).getStatus());
+        assertNull(failed.get(0).getText());
+    }
+}
@@ -0,0 +1,151 @@
+package com.noboseki.supportportal.service;
+
+import com.noboseki.supportportal.domain.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class UserCacheTest {
+    private static final long USER_ID = 1L;
+    private static final int READERS = 8;
+    private static final int UPDATES = 2_000;
+
+    private final Map<String, User> usersByUsername = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Optional<User>> loader = username -> {
+        loads.incrementAndGet();
+        return Optional.ofNullable(usersByUsername.get(username)).map(user -> user.toBuilder().build());
+    };
+
+    @Test
+    void readsThroughOnceAndHandsOutCopies() {
+        UserCache userCache = new UserCache(100, 60_000);
+        store("alice", "v1");
+
+        userCache.findByUsername("alice", loader).get().setFirstName("changed by caller");
+
+        assertEquals("v1", userCache.findByUsername("alice", loader).get().getFirstName());
+        assertEquals(1, loads.get());
+        assertEquals(1, userCache.getStats().hitCount());
+        assertEquals(1, userCache.getStats().missCount());
+    }
+
+    @Test
+    void usernameChangeDropsTheOldIndexEntry() {
+        UserCache userCache = new UserCache(100, 60_000);
+        store("alice", "v1");
+        userCache.findByUsername("alice", loader);
+
+        usersByUsername.remove("alice");
+        store("bob", "v2");
+        userCache.invalidate(USER_ID);
+
+        assertFalse(userCache.findByUsername("alice", loader).isPresent());
+        assertEquals("v2", userCache.findByUsername("bob", loader).get().getFirstName());
+    }
+
+    @Test
+    void loadThatRacesAnInvalidationIsNotCached() throws Exception {
+        UserCache userCache = new UserCache(100, 60_000);
+        store("alice", "v1");
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Optional<User>> staleRead = executor.submit(() -> userCache.findByUsername("alice", username -> {
+            Optional<User> user = loader.apply(username);
+            loaded.countDown();
+            await(invalidated);
+            return user;
+        }));
+
+        loaded.await();
+        store("alice", "v2");
+        userCache.invalidate(USER_ID);
+        invalidated.countDown();
+
+        assertEquals("v1", staleRead.get().get().getFirstName());
+        assertEquals("v2", userCache.findByUsername("alice", loader).get().getFirstName());
+        executor.shutdown();
+    }
+
+    @Test
+    void invalidationInsideATransactionEvictsAgainAfterCompletion() {
+        UserCache userCache = new UserCache(100, 60_000);
+        store("alice", "v1");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userCache.invalidate(USER_ID);
+            userCache.findByUsername("alice", loader);
+            store("alice", "v2");
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("v2", userCache.findByUsername("alice", loader).get().getFirstName());
+    }
+
+    @Test
+    void concurrentReadersNeverKeepAStaleUser() throws Exception {
+        UserCache userCache = new UserCache(100, 60_000);
+        store("alice", "v0");
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        List<Future<?>> readers = new ArrayList<>();
+        for (int reader = 0; reader < READERS; reader++) {
+            readers.add(executor.submit(() -> {
+                while (writing.get()) {
+                    userCache.findByUsername("alice", loader);
+                }
+            }));
+        }
+
+        try {
+            for (int version = 1; version <= UPDATES; version++) {
+                store("alice", "v" + version);
+                userCache.invalidate(USER_ID);
+                assertEquals("v" + version, userCache.findByUsername("alice", loader).get().getFirstName());
+            }
+        } finally {
+            writing.set(false);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+            executor.shutdown();
+        }
+    }
+
+    private void store(String username, String firstName) {
+        usersByUsername.put(username, User.builder()
+                .id(USER_ID)
+                .username(username)
+                .email(username + "@example.com")
+                .firstName(firstName).build());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
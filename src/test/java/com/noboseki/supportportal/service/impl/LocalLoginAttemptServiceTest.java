@@ -0,0 +1,68 @@
+package com.noboseki.supportportal.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalLoginAttemptServiceTest {
+    private static final int THREADS = 16;
+    private static final int INCREMENTS_PER_THREAD = 10_000;
+    private static final int USERNAMES = 4;
+
+    @Test
+    void concurrentFailuresLoseNoIncrements() throws Exception {
+        LocalLoginAttemptService attemptService = new LocalLoginAttemptService(15, 100_000);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                    attemptService.addUserToLoginAttemptCache("user" + (i % USERNAMES));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        for (int user = 0; user < USERNAMES; user++) {
+            assertEquals(THREADS * INCREMENTS_PER_THREAD / USERNAMES, attemptService.getAttempts("user" + user));
+        }
+    }
+
+    @Test
+    void trackingManyUsernamesKeepsEveryCounter() {
+        LocalLoginAttemptService attemptService = new LocalLoginAttemptService(15, 100_000);
+        for (int user = 0; user < 10_000; user++) {
+            for (int attempt = 0; attempt < LocalLoginAttemptService.MAXIMUM_NUMBER_OF_ATTEMPTS; attempt++) {
+                attemptService.addUserToLoginAttemptCache("user" + user);
+            }
+        }
+        for (int user = 0; user < 10_000; user++) {
+            assertTrue(attemptService.hasExceededMaxAttempts("user" + user));
+        }
+    }
+
+    @Test
+    void trackedUsernamesAreBounded() {
+        LocalLoginAttemptService attemptService = new LocalLoginAttemptService(15, 100);
+        for (int user = 0; user < 10_000; user++) {
+            attemptService.addUserToLoginAttemptCache("user" + user);
+        }
+        assertEquals(0, attemptService.getAttempts("user0"));
+        assertEquals(1, attemptService.getAttempts("user9999"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.noboseki.supportportal.utility;
+
+import com.noboseki.supportportal.exception.domain.PasswordHashingBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.noboseki.supportportal.constant.MetricsConstant.PASSWORD_HASHING_ACTIVE;
+import static com.noboseki.supportportal.constant.MetricsConstant.PASSWORD_HASHING_QUEUED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedPasswordEncoderTest {
+    private static final int MAX_CONCURRENCY = 2;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> encoded = new CopyOnWriteArrayList<>();
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            encoded.add(rawPassword.toString());
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    };
+
+    @Test
+    void rejectedBatchCancelsTheWorkAlreadyQueued() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder, MAX_CONCURRENCY, 1,
+                TimeUnit.MINUTES.toMillis(1), meterRegistry);
+        ExecutorService callers = Executors.newFixedThreadPool(MAX_CONCURRENCY);
+        try {
+            Future<?> first = callers.submit(() -> encoder.encode("busy-0"));
+            Future<?> second = callers.submit(() -> encoder.encode("busy-1"));
+            while (meterRegistry.get(PASSWORD_HASHING_ACTIVE).gauge().value() < MAX_CONCURRENCY) {
+                Thread.sleep(10);
+            }
+
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.encodeAll(Arrays.asList("queued", "rejected")));
+            assertEquals(0, meterRegistry.get(PASSWORD_HASHING_QUEUED).gauge().value());
+
+            release.countDown();
+            first.get();
+            second.get();
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            encoder.shutdown();
+        }
+        assertFalse(encoded.contains("queued"));
+        assertFalse(encoded.contains("rejected"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.noboseki.supportportal.utility;
+
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.noboseki.supportportal.domain.User;
+import com.noboseki.supportportal.domain.UserPrincipal;
+import com.noboseki.supportportal.enumeration.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JWTTokenProviderTest {
+    private JWTTokenProvider jwtTokenProvider;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JWTTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret", "first-secret");
+        ReflectionTestUtils.setField(jwtTokenProvider, "previousSecret", "");
+        jwtTokenProvider.initSigningKeys();
+        token = jwtTokenProvider.generateJwtToken(new UserPrincipal(User.builder()
+                .username("rotation")
+                .password("secret")
+                .isActive(true)
+                .isNotLocked(true)
+                .role(Role.ROLE_USER.name()).build()));
+    }
+
+    @Test
+    void tokenSignedBeforeRotationVerifiesWithThePreviousKey() {
+        jwtTokenProvider.verifyToken(token);
+        jwtTokenProvider.rotateSecret("second-secret");
+
+        assertEquals("rotation", jwtTokenProvider.verifyToken(token).getSubject());
+        assertEquals("rotation", jwtTokenProvider.getSubject(token));
+    }
+
+    @Test
+    void tokenSignedTwoRotationsAgoIsRejected() {
+        jwtTokenProvider.rotateSecret("second-secret");
+        jwtTokenProvider.verifyToken(token);
+        jwtTokenProvider.rotateSecret("third-secret");
+
+        assertThrows(SignatureVerificationException.class, () -> jwtTokenProvider.verifyToken(token));
+        assertThrows(SignatureVerificationException.class, () -> jwtTokenProvider.getSubject(token));
+    }
+
+    @Test
+    void blankSecretIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> jwtTokenProvider.rotateSecret(" "));
+    }
+}